@@ -1,2 +1,3 @@
+$env:MAVEN_OPTS = "--add-modules jdk.incubator.vector"
 mvn clean compile
 mvn exec:java "-Dexec.mainClass=org.abk.student.management.system.Main"
\ No newline at end of file
@@ -1,6 +1,9 @@
 package org.abk.student.management.system;
 
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.repository.FilteredStudentRepository;
+import org.abk.student.management.system.repository.InMemoryStudentRepository;
+import org.abk.student.management.system.shared.constant.AppConstant;
 import org.abk.student.management.system.shared.seed.StudentSeeder;
 import org.fusesource.jansi.AnsiConsole;
 
@@ -19,7 +22,7 @@ import java.util.Map;
  * <p>
  * Features: <br/>
  * - Student CRUD operations (Create, Read, Update, Delete) <br/>
- * - Sorting algorithms (Bubble, Quick, Merge Sort) <br/>
+ * - Sorting algorithms (Bubble, Quick, Merge, Parallel Merge, Intro, Tim, Multikey Quick Sort) <br/>
  * - Searching algorithms (Linear, Binary Search) <br/>
  * - Performance comparison tools <br/>
  * - Statistics and reporting <br/>
@@ -34,7 +37,8 @@ public class Main {
         System.setProperty("jansi.passthrough", "true");
         AnsiConsole.systemInstall();
 
-        StudentService studentService = new StudentService();
+        StudentService studentService = new StudentService(new FilteredStudentRepository(
+                new InMemoryStudentRepository(), AppConstant.ID_FILTER_FALSE_POSITIVE_RATE));
 
         try {
             runApplication(studentService);
@@ -0,0 +1,84 @@
+package org.abk.student.management.system.algorithms;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Comparator decorator that counts how often it is called.
+ * <p>
+ * Instrumented sort and search strategies wrap the caller's comparator in one
+ * of these for the duration of a call, so the algorithms themselves contain no
+ * comparison bookkeeping and the uninstrumented path runs the caller's
+ * comparator directly. <br/>
+ * - {@link #sequential}: plain counter, for algorithms running on one thread <br/>
+ * - {@link #concurrent}: {@link LongAdder}, for algorithms that fork work
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public abstract class CountingComparator<T> implements Comparator<T> {
+    private final Comparator<T> delegate;
+
+    private CountingComparator(Comparator<T> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        this.delegate = delegate;
+    }
+
+    public static <T> CountingComparator<T> sequential(Comparator<T> delegate) {
+        return new Sequential<>(delegate);
+    }
+
+    public static <T> CountingComparator<T> concurrent(Comparator<T> delegate) {
+        return new Concurrent<>(delegate);
+    }
+
+    /**
+     * Returns the wrapped comparator.
+     */
+    public Comparator<T> getDelegate() {
+        return delegate;
+    }
+
+    public abstract long getCount();
+
+    private static final class Sequential<T> extends CountingComparator<T> {
+        private long count;
+
+        Sequential(Comparator<T> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public int compare(T a, T b) {
+            count++;
+            return getDelegate().compare(a, b);
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static final class Concurrent<T> extends CountingComparator<T> {
+        private final LongAdder count = new LongAdder();
+
+        Concurrent(Comparator<T> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public int compare(T a, T b) {
+            count.increment();
+            return getDelegate().compare(a, b);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.abk.student.management.system.algorithms.kernels;
+
+/**
+ * Numeric kernels over a primitive column of marks.
+ * <p>
+ * Every operation reads {@code values[0, length)} in one sequential pass. Ranges are
+ * half-open: {@code from <= mark < to}. Two implementations exist: <br/>
+ * - {@link ScalarMarkKernels}: plain loops, always available <br/>
+ * - {@code VectorMarkKernels}: SIMD loops on the incubating JDK Vector API, used
+ * when the JVM runs with {@code --add-modules jdk.incubator.vector}
+ * <p>
+ * Results are identical except for {@link #sum}, whose vector version adds in a
+ * different order and may differ in the last bits.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public interface MarkKernels {
+    double sum(double[] values, int length);
+
+    /**
+     * @return the smallest value, or {@code +Infinity} if {@code length} is 0
+     */
+    double min(double[] values, int length);
+
+    /**
+     * @return the largest value, or {@code -Infinity} if {@code length} is 0
+     */
+    double max(double[] values, int length);
+
+    int countInRange(double[] values, int length, double from, double to);
+
+    /**
+     * Counts values per bucket, where bucket {@code i} is {@code [lowerBounds[i], lowerBounds[i + 1])}
+     * and the last bucket is unbounded above. Values below {@code lowerBounds[0]} are not counted.
+     *
+     * @param lowerBounds strictly increasing bucket lower bounds
+     * @param counts      receives one count per bucket
+     */
+    void countByBucket(double[] values, int length, double[] lowerBounds, int[] counts);
+
+    /**
+     * Sets bit {@code i} of {@code selection} (bit {@code i % 64} of word {@code i / 64})
+     * for every value in {@code [from, to)} and clears all other bits.
+     *
+     * @param selection bitmap of at least {@code (length + 63) / 64} words
+     * @return number of selected values
+     */
+    int filterRange(double[] values, int length, double from, double to, long[] selection);
+
+    String getName();
+
+    /**
+     * Returns the vector kernels if the Vector API is available and wide enough to
+     * help, otherwise the scalar kernels.
+     */
+    static MarkKernels preferred() {
+        return MarkKernelsLoader.PREFERRED;
+    }
+
+    static MarkKernels scalar() {
+        return MarkKernelsLoader.SCALAR;
+    }
+}
@@ -0,0 +1,37 @@
+package org.abk.student.management.system.algorithms.kernels;
+
+/**
+ * Picks the kernel implementation once per JVM.
+ * <p>
+ * The vector implementation is loaded reflectively, so the rest of the application
+ * never links against {@code jdk.incubator.vector} and runs unchanged when the
+ * module is not resolved.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class MarkKernelsLoader {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_IMPLEMENTATION =
+            "org.abk.student.management.system.algorithms.kernels.VectorMarkKernels";
+
+    static final MarkKernels SCALAR = new ScalarMarkKernels();
+    static final MarkKernels PREFERRED = loadPreferred();
+
+    private MarkKernelsLoader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static MarkKernels loadPreferred() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR;
+        }
+
+        try {
+            return (MarkKernels) Class.forName(VECTOR_IMPLEMENTATION).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Module present but unusable here (or vectors too narrow to help)
+            return SCALAR;
+        }
+    }
+}
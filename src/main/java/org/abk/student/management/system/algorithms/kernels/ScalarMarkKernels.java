@@ -0,0 +1,89 @@
+package org.abk.student.management.system.algorithms.kernels;
+
+import java.util.Arrays;
+
+/**
+ * Scalar implementation of {@link MarkKernels}: one element per loop iteration.
+ * <p>
+ * Time Complexity: O(n) per kernel ({@code countByBucket}: O(n * b) for b buckets) <br/>
+ * Space Complexity: O(1)
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ScalarMarkKernels implements MarkKernels {
+    @Override
+    public double sum(double[] values, int length) {
+        double sum = 0.0;
+        for (int i = 0; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(double[] values, int length, double from, double to) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
+            if (value >= from && value < to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void countByBucket(double[] values, int length, double[] lowerBounds, int[] counts) {
+        Arrays.fill(counts, 0, lowerBounds.length, 0);
+
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
+            int bucket = lowerBounds.length - 1;
+            while (bucket >= 0 && value < lowerBounds[bucket]) {
+                bucket--;
+            }
+            if (bucket >= 0) {
+                counts[bucket]++;
+            }
+        }
+    }
+
+    @Override
+    public int filterRange(double[] values, int length, double from, double to, long[] selection) {
+        Arrays.fill(selection, 0, (length + 63) >>> 6, 0L);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            double value = values[i];
+            if (value >= from && value < to) {
+                selection[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String getName() {
+        return "Scalar";
+    }
+}
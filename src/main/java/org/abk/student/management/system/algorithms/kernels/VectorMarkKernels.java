@@ -0,0 +1,170 @@
+package org.abk.student.management.system.algorithms.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * SIMD implementation of {@link MarkKernels} on the incubating JDK Vector API.
+ * <p>
+ * Each loop processes {@code SPECIES.length()} marks per iteration with the widest
+ * vector shape the CPU supports, then finishes the tail with scalar code. Range tests
+ * become lane masks: their {@code trueCount} feeds the counters, and their bits are
+ * OR-ed straight into the selection bitmap (the lane count divides 64, so a vector
+ * never straddles two bitmap words).
+ * <p>
+ * Requires {@code --add-modules jdk.incubator.vector} at compile and run time; it is
+ * only instantiated through {@link MarkKernels#preferred()}.
+ * <p>
+ * Time Complexity: O(n / lanes) vector steps per kernel <br/>
+ * Space Complexity: O(1)
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class VectorMarkKernels implements MarkKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    public VectorMarkKernels() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("No SIMD registers wider than one double");
+        }
+    }
+
+    @Override
+    public double sum(double[] values, int length) {
+        DoubleVector accumulator = DoubleVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            accumulator = accumulator.add(DoubleVector.fromArray(SPECIES, values, i));
+        }
+
+        double sum = accumulator.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        DoubleVector accumulator = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            accumulator = accumulator.min(DoubleVector.fromArray(SPECIES, values, i));
+        }
+
+        double min = accumulator.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        DoubleVector accumulator = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            accumulator = accumulator.max(DoubleVector.fromArray(SPECIES, values, i));
+        }
+
+        double max = accumulator.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int countInRange(double[] values, int length, double from, double to) {
+        int bound = SPECIES.loopBound(length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            count += inRange(DoubleVector.fromArray(SPECIES, values, i), from, to).trueCount();
+        }
+
+        for (; i < length; i++) {
+            double value = values[i];
+            if (value >= from && value < to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void countByBucket(double[] values, int length, double[] lowerBounds, int[] counts) {
+        int buckets = lowerBounds.length;
+        // atLeast[b]: values >= lowerBounds[b]; bucket b holds atLeast[b] - atLeast[b + 1]
+        int[] atLeast = new int[buckets + 1];
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(SPECIES, values, i);
+            for (int b = 0; b < buckets; b++) {
+                atLeast[b] += vector.compare(VectorOperators.GE, lowerBounds[b]).trueCount();
+            }
+        }
+
+        for (; i < length; i++) {
+            double value = values[i];
+            for (int b = 0; b < buckets && value >= lowerBounds[b]; b++) {
+                atLeast[b]++;
+            }
+        }
+
+        for (int b = 0; b < buckets; b++) {
+            counts[b] = atLeast[b] - atLeast[b + 1];
+        }
+    }
+
+    @Override
+    public int filterRange(double[] values, int length, double from, double to, long[] selection) {
+        Arrays.fill(selection, 0, (length + 63) >>> 6, 0L);
+
+        int bound = SPECIES.loopBound(length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Double> mask = inRange(DoubleVector.fromArray(SPECIES, values, i), from, to);
+            selection[i >>> 6] |= mask.toLong() << i;
+            count += mask.trueCount();
+        }
+
+        for (; i < length; i++) {
+            double value = values[i];
+            if (value >= from && value < to) {
+                selection[i >>> 6] |= 1L << i;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static VectorMask<Double> inRange(DoubleVector vector, double from, double to) {
+        return vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to));
+    }
+
+    public int getLaneCount() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public String getName() {
+        return "Vector (" + SPECIES.length() + " lanes)";
+    }
+}
@@ -0,0 +1,245 @@
+package org.abk.student.management.system.algorithms.membership;
+
+/**
+ * Cuckoo filter implementation of {@link MembershipFilter}.
+ * <p>
+ * Structure: <br/>
+ * A power-of-two number of buckets with {@value #BUCKET_SIZE} slots each. A key is
+ * stored as a short fingerprint of its hash in one of two buckets: i1 from the
+ * hash and i2 = i1 XOR hash(fingerprint). The second bucket is computed from the
+ * fingerprint alone, so stored fingerprints can be moved between their two
+ * buckets without the original key, which is what makes removal possible.
+ * <p>
+ * Operations: <br/>
+ * - Lookup: compares the fingerprint against the 8 slots of the two buckets <br/>
+ * - Insert: takes a free slot in either bucket, otherwise evicts a random
+ * fingerprint to its other bucket, up to {@value #MAX_KICKS} times; the last
+ * homeless fingerprint is kept aside and the filter then reports itself full <br/>
+ * - Remove: clears one matching slot
+ * <p>
+ * Sizing: <br/>
+ * A false-positive rate e needs fingerprints of ceil(log2(2 * 4 / e)) bits
+ * (6 bits at 10%, 10 bits at 1%, 13 bits at 0.1%); the buckets are sized for the
+ * expected number of keys at a {@value #MAX_LOAD_FACTOR} load factor.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class CuckooFilter implements MembershipFilter {
+    public static final int BUCKET_SIZE = 4;
+    public static final double MAX_LOAD_FACTOR = 0.95;
+    private static final int MAX_KICKS = 500;
+    private static final int MIN_FINGERPRINT_BITS = 4;
+    private static final int MAX_FINGERPRINT_BITS = 32;
+    private static final int EMPTY = 0;
+
+    private final int[] slots;
+    private final int bucketMask;
+    private final int fingerprintBits;
+    private final int fingerprintMask;
+    private int size;
+    private long randomState = 0x9E3779B97F4A7C15L;
+
+    // A fingerprint that found no slot; while present, the filter is full
+    private int victimFingerprint = EMPTY;
+    private int victimBucket;
+
+    public CuckooFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive");
+        }
+
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        int bits = (int) Math.ceil(Math.log(2.0 * BUCKET_SIZE / falsePositiveRate) / Math.log(2));
+        this.fingerprintBits = Math.max(MIN_FINGERPRINT_BITS, Math.min(MAX_FINGERPRINT_BITS, bits));
+        this.fingerprintMask = fingerprintBits == 32 ? -1 : (1 << fingerprintBits) - 1;
+
+        long buckets = (long) Math.ceil(expectedKeys / (BUCKET_SIZE * MAX_LOAD_FACTOR));
+        if (buckets > (1 << 28)) {
+            throw new IllegalArgumentException("Too many expected keys");
+        }
+        int bucketCount = Integer.highestOneBit((int) Math.max(1, buckets - 1)) << 1;
+
+        this.bucketMask = bucketCount - 1;
+        this.slots = new int[bucketCount * BUCKET_SIZE];
+    }
+
+    @Override
+    public boolean add(String key) {
+        if (victimFingerprint != EMPTY) {
+            return false;
+        }
+
+        long hash = hash(key);
+        int fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+
+        if (insertInto(first, fingerprint) || insertInto(alternate(first, fingerprint), fingerprint)) {
+            size++;
+            return true;
+        }
+
+        // Both buckets are full: evict fingerprints to their other bucket until one fits
+        int bucket = (nextRandom() & 1) == 0 ? first : alternate(first, fingerprint);
+        for (int kick = 0; kick < MAX_KICKS; kick++) {
+            int slot = bucket * BUCKET_SIZE + (nextRandom() & (BUCKET_SIZE - 1));
+            int evicted = slots[slot];
+            slots[slot] = fingerprint;
+            fingerprint = evicted;
+            bucket = alternate(bucket, fingerprint);
+
+            if (insertInto(bucket, fingerprint)) {
+                size++;
+                return true;
+            }
+        }
+
+        victimFingerprint = fingerprint;
+        victimBucket = bucket;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        int second = alternate(first, fingerprint);
+
+        if (victimFingerprint == fingerprint && (victimBucket == first || victimBucket == second)) {
+            return true;
+        }
+
+        return bucketContains(first, fingerprint) || bucketContains(second, fingerprint);
+    }
+
+    @Override
+    public boolean remove(String key) {
+        long hash = hash(key);
+        int fingerprint = fingerprint(hash);
+        int first = (int) hash & bucketMask;
+        int second = alternate(first, fingerprint);
+
+        if (victimFingerprint == fingerprint && (victimBucket == first || victimBucket == second)) {
+            victimFingerprint = EMPTY;
+            size--;
+            return true;
+        }
+
+        if (!removeFrom(first, fingerprint) && !removeFrom(second, fingerprint)) {
+            return false;
+        }
+        size--;
+
+        // A slot is free again, so the homeless fingerprint may fit now
+        if (victimFingerprint != EMPTY && (insertInto(victimBucket, victimFingerprint)
+                || insertInto(alternate(victimBucket, victimFingerprint), victimFingerprint))) {
+            victimFingerprint = EMPTY;
+        }
+        return true;
+    }
+
+    private boolean insertInto(int bucket, int fingerprint) {
+        int start = bucket * BUCKET_SIZE;
+        for (int slot = start; slot < start + BUCKET_SIZE; slot++) {
+            if (slots[slot] == EMPTY) {
+                slots[slot] = fingerprint;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean bucketContains(int bucket, int fingerprint) {
+        int start = bucket * BUCKET_SIZE;
+        return slots[start] == fingerprint || slots[start + 1] == fingerprint
+                || slots[start + 2] == fingerprint || slots[start + 3] == fingerprint;
+    }
+
+    private boolean removeFrom(int bucket, int fingerprint) {
+        int start = bucket * BUCKET_SIZE;
+        for (int slot = start; slot < start + BUCKET_SIZE; slot++) {
+            if (slots[slot] == fingerprint) {
+                slots[slot] = EMPTY;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int alternate(int bucket, int fingerprint) {
+        // XOR keeps the mapping symmetric: alternate(alternate(b, f), f) == b
+        return (bucket ^ (int) mix(fingerprint)) & bucketMask;
+    }
+
+    private int fingerprint(long hash) {
+        int fingerprint = (int) (hash >>> 32) & fingerprintMask;
+        return fingerprint == EMPTY ? 1 : fingerprint;
+    }
+
+    private static long hash(String key) {
+        // FNV-1a over the characters, then a finalizer so every bit depends on every character
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private int nextRandom() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) randomState;
+    }
+
+    public boolean isFull() {
+        return victimFingerprint != EMPTY;
+    }
+
+    public int getFingerprintBits() {
+        return fingerprintBits;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int capacity() {
+        return slots.length;
+    }
+
+    @Override
+    public double getFalsePositiveRate() {
+        return 2.0 * BUCKET_SIZE / Math.pow(2, fingerprintBits);
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (long) slots.length * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cuckoo Filter [Keys: %d, Load: %.0f%%, Fingerprint: %d bits, FPR <= %.4f%%]",
+                size, getLoadFactor() * 100, fingerprintBits, getFalsePositiveRate() * 100);
+    }
+}
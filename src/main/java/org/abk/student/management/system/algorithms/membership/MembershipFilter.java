@@ -0,0 +1,42 @@
+package org.abk.student.management.system.algorithms.membership;
+
+/**
+ * Probabilistic set of string keys that answers "definitely absent" or "maybe present".
+ * <p>
+ * Contract: <br/>
+ * - {@link #mightContain} never returns {@code false} for a key that was added and not removed <br/>
+ * - It may return {@code true} for a key that was never added, with a probability
+ * close to {@link #getFalsePositiveRate()} <br/>
+ * - {@link #remove} must only be called for keys that were added
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public interface MembershipFilter {
+    /**
+     * Adds a key. Returns {@code false} if the filter is full and the key could not be stored.
+     */
+    boolean add(String key);
+
+    boolean mightContain(String key);
+
+    /**
+     * Removes one previously added copy of the key. Returns {@code false} if none was found.
+     */
+    boolean remove(String key);
+
+    int size();
+
+    int capacity();
+
+    /**
+     * Upper bound on the probability that an absent key is reported as maybe present.
+     */
+    double getFalsePositiveRate();
+
+    long getMemoryBytes();
+
+    default double getLoadFactor() {
+        return capacity() == 0 ? 0 : (double) size() / capacity();
+    }
+}
@@ -0,0 +1,177 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import org.abk.student.management.system.algorithms.CountingComparator;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Common core of the {@link SearchStrategy} implementations.
+ * <p>
+ * Validation, timing and statistics live here; subclasses implement
+ * {@link #findIndex}. Every call builds its own counters and returns its own
+ * {@link SearchStatistics}, so a strategy holds no per-call state and one
+ * instance can search on several threads at once. The legacy getters report
+ * the statistics of the most recently finished instrumented call.
+ * <p>
+ * Instrumented strategies (the default) wrap the comparator in a
+ * {@link CountingComparator} and time the call; subclasses only add work done
+ * without the comparator to the {@link SearchCounters}. Uninstrumented strategies
+ * pass the caller's comparator straight through, never read the clock and
+ * return statistics with zero counts.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public abstract class AbstractSearchStrategy implements SearchStrategy {
+    private final boolean instrumented;
+    private volatile SearchStatistics lastStatistics;
+
+    protected AbstractSearchStrategy() {
+        this(true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    protected AbstractSearchStrategy(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    @Override
+    public final <T> SearchStatistics search(List<T> list, T target, Comparator<T> comparator) {
+        validateInputs(list, target, comparator);
+
+        return measure(comparator, (counted, counters) -> findIndex(list, target, counted, counters));
+    }
+
+    /**
+     * Runs one lookup with this strategy's instrumentation and returns its statistics.
+     * Subclasses with entry points beyond {@link #search} route them through here.
+     */
+    protected final <T> SearchStatistics measure(Comparator<T> comparator, Lookup<T> lookup) {
+        if (!instrumented) {
+            int index = lookup.find(comparator, SearchCounters.NONE);
+            return new SearchStatistics(getAlgorithmName(), index, 0, 0);
+        }
+
+        SearchCounters counters = new SearchCounters();
+        long startTime = System.currentTimeMillis();
+
+        CountingComparator<T> counting = comparesConcurrently()
+                ? CountingComparator.concurrent(comparator)
+                : CountingComparator.sequential(comparator);
+        int index = lookup.find(counting, counters);
+        counters.addComparisons(counting.getCount());
+
+        SearchStatistics statistics = new SearchStatistics(getAlgorithmName(), index,
+                counters.getComparisons(), System.currentTimeMillis() - startTime);
+        lastStatistics = statistics;
+        return statistics;
+    }
+
+    /**
+     * Range version of {@link #measure}. The legacy getters see the call as a
+     * search that found the first element of the range.
+     */
+    protected final <T> RangeStatistics measureRange(Comparator<T> comparator, RangeLookup<T> lookup) {
+        if (!instrumented) {
+            IndexRange range = lookup.find(comparator, SearchCounters.NONE);
+            return new RangeStatistics(getAlgorithmName(), range, 0, 0);
+        }
+
+        SearchCounters counters = new SearchCounters();
+        long startTime = System.currentTimeMillis();
+
+        CountingComparator<T> counting = comparesConcurrently()
+                ? CountingComparator.concurrent(comparator)
+                : CountingComparator.sequential(comparator);
+        IndexRange range = lookup.find(counting, counters);
+        counters.addComparisons(counting.getCount());
+
+        RangeStatistics statistics = new RangeStatistics(getAlgorithmName(), range,
+                counters.getComparisons(), System.currentTimeMillis() - startTime);
+        lastStatistics = new SearchStatistics(getAlgorithmName(), range.isEmpty() ? -1 : range.from(),
+                statistics.comparisons(), statistics.executionTime());
+        return statistics;
+    }
+
+    /**
+     * One lookup, given the comparator to use (counting when instrumented) and the counters of the call.
+     */
+    @FunctionalInterface
+    protected interface Lookup<T> {
+        int find(Comparator<T> comparator, SearchCounters counters);
+    }
+
+    /**
+     * One range lookup, given the comparator to use and the counters of the call.
+     */
+    @FunctionalInterface
+    protected interface RangeLookup<T> {
+        IndexRange find(Comparator<T> comparator, SearchCounters counters);
+    }
+
+    /**
+     * Returns the index of an element equal to {@code target}, or -1 if there is none.
+     *
+     * @param counters counts of this call; comparator calls are already counted
+     */
+    protected abstract <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters);
+
+    /**
+     * Whether {@link #findIndex} calls the comparator from several threads at once,
+     * so comparisons must be counted with a thread-safe counter.
+     */
+    protected boolean comparesConcurrently() {
+        return false;
+    }
+
+    protected void validateInputs(List<?> list, Object target, Comparator<?> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    /**
+     * Returns the statistics of the most recently finished instrumented call, or {@code null} if there is none.
+     */
+    public SearchStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    @Override
+    public long getComparisonCount() {
+        SearchStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.comparisons();
+    }
+
+    @Override
+    public long getExecutionTime() {
+        SearchStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.executionTime();
+    }
+
+    @Override
+    public void resetCounters() {
+        lastStatistics = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Comparisons: %d, Time: %dms, Requires Sorted: %s]",
+                getAlgorithmName(), getComparisonCount(), getExecutionTime(),
+                requiresSortedList() ? "Yes" : "No");
+    }
+}
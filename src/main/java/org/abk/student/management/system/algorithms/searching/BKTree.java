@@ -0,0 +1,217 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree: a dictionary of terms searchable by {@link LevenshteinDistance}.
+ * <p>
+ * Every node holds a term; its children hang off it by their distance to that term.
+ * When a query is at distance {@code d} from a node, the triangle inequality says
+ * any term within {@code maxDistance} of the query lies under a child numbered
+ * {@code d - maxDistance} to {@code d + maxDistance}, so all other subtrees are
+ * skipped. For small distances a query computes the edit distance to a small
+ * fraction of the dictionary instead of to every term.
+ * <p>
+ * Terms are added and removed incrementally. A removed term's node stays in the
+ * tree (it still routes its children) but is no longer reported; when removed
+ * nodes outnumber live ones, the tree is rebuilt from the live terms.
+ * <p>
+ * Time Complexity: <br/>
+ * - add(): O(h * L²) for tree height h and term length L <br/>
+ * - remove(), contains(): O(1) <br/>
+ * - search(): O(v * L²) for v visited nodes, typically far below the term count
+ * <p>
+ * Space Complexity: O(t) for t terms, plus removed terms until the next rebuild
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class BKTree {
+    private static final int MIN_REBUILD_SIZE = 64;
+
+    private final Map<String, Node> nodesByTerm = new HashMap<>();
+    private Node root;
+    private int removedCount;
+    private long lastDistanceComputations;
+
+    /**
+     * Adds a term. Returns {@code false} if it is already present.
+     */
+    public boolean add(String term) {
+        if (term == null) {
+            throw new IllegalArgumentException("Term cannot be null");
+        }
+
+        Node existing = nodesByTerm.get(term);
+        if (existing != null) {
+            if (!existing.removed) {
+                return false;
+            }
+            existing.removed = false;
+            removedCount--;
+            return true;
+        }
+
+        Node node = new Node(term);
+        nodesByTerm.put(term, node);
+        link(node);
+        return true;
+    }
+
+    /**
+     * Removes a term. Returns {@code false} if it is not present.
+     */
+    public boolean remove(String term) {
+        Node node = term == null ? null : nodesByTerm.get(term);
+        if (node == null || node.removed) {
+            return false;
+        }
+
+        node.removed = true;
+        removedCount++;
+        if (removedCount > MIN_REBUILD_SIZE && removedCount > size()) {
+            rebuild();
+        }
+        return true;
+    }
+
+    public boolean contains(String term) {
+        Node node = term == null ? null : nodesByTerm.get(term);
+        return node != null && !node.removed;
+    }
+
+    /**
+     * Returns the terms within {@code maxDistance} edits of {@code query},
+     * nearest first and alphabetically among equal distances.
+     */
+    public List<TermMatch> search(String query, int maxDistance) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Maximum distance cannot be negative");
+        }
+
+        List<TermMatch> matches = new ArrayList<>();
+        long computations = 0;
+
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = LevenshteinDistance.compute(query, node.term);
+            computations++;
+
+            if (distance <= maxDistance && !node.removed) {
+                matches.add(new TermMatch(node.term, distance));
+            }
+
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int edge = from; edge <= to; edge++) {
+                if (node.children[edge] != null) {
+                    pending.push(node.children[edge]);
+                }
+            }
+        }
+
+        lastDistanceComputations = computations;
+        matches.sort(Comparator.comparingInt(TermMatch::distance).thenComparing(TermMatch::term));
+        return matches;
+    }
+
+    public int size() {
+        return nodesByTerm.size() - removedCount;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Number of edit distances the last {@link #search} computed, for comparison with {@link #size()}.
+     */
+    public long getLastDistanceComputations() {
+        return lastDistanceComputations;
+    }
+
+    private void link(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node parent = root;
+        while (true) {
+            int distance = LevenshteinDistance.compute(node.term, parent.term);
+            if (distance >= parent.children.length) {
+                parent.children = Arrays.copyOf(parent.children, Math.max(distance + 1, parent.children.length * 2));
+            }
+
+            Node child = parent.children[distance];
+            if (child == null) {
+                parent.children[distance] = node;
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    private void rebuild() {
+        // Breadth-first order keeps the rebuilt tree about as shallow as the original
+        List<String> liveTerms = new ArrayList<>(size());
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.poll();
+            if (!node.removed) {
+                liveTerms.add(node.term);
+            }
+            for (Node child : node.children) {
+                if (child != null) {
+                    pending.add(child);
+                }
+            }
+        }
+
+        nodesByTerm.clear();
+        root = null;
+        removedCount = 0;
+        for (String term : liveTerms) {
+            Node node = new Node(term);
+            nodesByTerm.put(term, node);
+            link(node);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BK-Tree [Terms: " + size() + ", Removed: " + removedCount + "]";
+    }
+
+    /**
+     * A dictionary term and its edit distance to the query.
+     */
+    public record TermMatch(String term, int distance) {
+    }
+
+    private static final class Node {
+        private final String term;
+        private Node[] children = new Node[4];
+        private boolean removed;
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
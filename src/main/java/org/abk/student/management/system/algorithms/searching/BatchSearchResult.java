@@ -0,0 +1,52 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result and measurements of one batch lookup.
+ *
+ * @param matches       one entry per probe key, in the order the keys were given;
+ *                      {@code null} where the key was not found
+ * @param missingKeys   the keys that were not found, in the order they were given
+ * @param comparisons   key comparisons made, including sorting the probe keys
+ * @param executionTime wall-clock time in milliseconds
+ * @param <K>           type of the keys
+ * @param <T>           type of the elements
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record BatchSearchResult<K, T>(List<T> matches, List<K> missingKeys, long comparisons, long executionTime) {
+    public BatchSearchResult {
+        matches = Collections.unmodifiableList(matches);
+        missingKeys = List.copyOf(missingKeys);
+    }
+
+    /**
+     * Returns the elements that were found, in the order of their keys.
+     */
+    public List<T> found() {
+        List<T> found = new ArrayList<>(matches.size() - missingKeys.size());
+        for (T match : matches) {
+            if (match != null) {
+                found.add(match);
+            }
+        }
+        return found;
+    }
+
+    public int foundCount() {
+        return matches.size() - missingKeys.size();
+    }
+
+    public boolean allFound() {
+        return missingKeys.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Batch Search [Keys: %d, Found: %d, Missing: %d, Comparisons: %d, Time: %dms]",
+                matches.size(), foundCount(), missingKeys.size(), comparisons, executionTime);
+    }
+}
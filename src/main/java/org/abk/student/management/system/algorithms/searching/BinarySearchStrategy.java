@@ -48,40 +48,39 @@ import java.util.List;
  * Prerequisites: <br/>
  * - List MUST be sorted according to the comparator <br/>
  * - Comparator must be consistent with the sort order
+ * <p>
+ * Range queries ({@link RangeSearchStrategy}) run the same halving loop without
+ * stopping at the first match: a lower bound moves left on equality and an upper
+ * bound moves right, so the two meet at the edges of a block of equal keys.
  *
  * @author Soft Development ABK
  * @version 1.0
  */
-public class BinarySearchStrategy implements SearchStrategy {
-    private long comparisonCount;
-    private long executionTime;
-
+public class BinarySearchStrategy extends AbstractSearchStrategy implements RangeSearchStrategy {
     public BinarySearchStrategy() {
-        resetCounters();
+        super();
     }
 
-    @Override
-    public <T> int searchIndex(List<T> list, T target, Comparator<T> comparator) {
-        validateInputs(list, target, comparator);
-
-        resetCounters();
-        long startTime = System.currentTimeMillis();
-
-        int index = binarySearchIterative(list, target, comparator);
-
-        executionTime = System.currentTimeMillis() - startTime;
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public BinarySearchStrategy(boolean instrumented) {
+        super(instrumented);
+    }
 
-        return index;
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
+        return binarySearchIterative(list, target, comparator, counters);
     }
 
-    private <T> int binarySearchIterative(List<T> list, T target, Comparator<T> comparator) {
+    private <T> int binarySearchIterative(List<T> list, T target, Comparator<T> comparator,
+                                          SearchCounters counters) {
         int left = 0;
         int right = list.size() - 1;
 
         while (left <= right) {
             int mid = left + (right - left) / 2;
 
-            comparisonCount++;
             int comparison = comparator.compare(list.get(mid), target);
 
             if (comparison == 0) {
@@ -96,37 +95,79 @@ public class BinarySearchStrategy implements SearchStrategy {
         return -1;
     }
 
-    @SuppressWarnings("unused")
-    private <T> int binarySearchRecursive(List<T> list, T target,
-                                          Comparator<T> comparator, int left, int right) {
-        if (left > right) {
-            return -1;
-        }
+    @Override
+    public <T> SearchStatistics lowerBound(List<T> list, T target, Comparator<T> comparator) {
+        validateInputs(list, target, comparator);
+
+        return measure(comparator, (counted, counters) -> lowerBound(list, target, counted, 0, list.size()));
+    }
 
-        int mid = left + (right - left) / 2;
+    @Override
+    public <T> SearchStatistics upperBound(List<T> list, T target, Comparator<T> comparator) {
+        validateInputs(list, target, comparator);
 
-        comparisonCount++;
-        int comparison = comparator.compare(list.get(mid), target);
+        return measure(comparator, (counted, counters) -> upperBound(list, target, counted, 0, list.size()));
+    }
 
-        if (comparison == 0) {
-            return mid;
-        } else if (comparison < 0) {
-            return binarySearchRecursive(list, target, comparator, mid + 1, right);
-        } else {
-            return binarySearchRecursive(list, target, comparator, left, mid - 1);
-        }
+    @Override
+    public <T> RangeStatistics equalRange(List<T> list, T target, Comparator<T> comparator) {
+        validateInputs(list, target, comparator);
+
+        return measureRange(comparator, (counted, counters) -> {
+            int from = lowerBound(list, target, counted, 0, list.size());
+            // Everything before the lower bound is smaller, so the upper bound lies after it
+            return new IndexRange(from, upperBound(list, target, counted, from, list.size()));
+        });
     }
 
-    private <T> void validateInputs(List<T> list, T target, Comparator<T> comparator) {
-        if (list == null) {
-            throw new IllegalArgumentException("List cannot be null");
+    @Override
+    public <T> RangeStatistics rangeBetween(List<T> list, T low, T high, Comparator<T> comparator) {
+        validateInputs(list, low, comparator);
+        if (high == null) {
+            throw new IllegalArgumentException("Upper target cannot be null");
         }
-        if (target == null) {
-            throw new IllegalArgumentException("Target cannot be null");
+
+        return measureRange(comparator, (counted, counters) -> {
+            int from = lowerBound(list, low, counted, 0, list.size());
+            if (counted.compare(low, high) > 0) {
+                return new IndexRange(from, from);
+            }
+            return new IndexRange(from, upperBound(list, high, counted, from, list.size()));
+        });
+    }
+
+    /**
+     * First position in {@code [left, right)} whose element is not less than the target.
+     */
+    private static <T> int lowerBound(List<T> list, T target, Comparator<T> comparator, int left, int right) {
+        while (left < right) {
+            int mid = left + (right - left) / 2;
+
+            if (comparator.compare(list.get(mid), target) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
         }
-        if (comparator == null) {
-            throw new IllegalArgumentException("Comparator cannot be null");
+
+        return left;
+    }
+
+    /**
+     * First position in {@code [left, right)} whose element is greater than the target.
+     */
+    private static <T> int upperBound(List<T> list, T target, Comparator<T> comparator, int left, int right) {
+        while (left < right) {
+            int mid = left + (right - left) / 2;
+
+            if (comparator.compare(list.get(mid), target) <= 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
         }
+
+        return left;
     }
 
     @Override
@@ -144,31 +185,8 @@ public class BinarySearchStrategy implements SearchStrategy {
         return "O(1) iterative";
     }
 
-    @Override
-    public long getComparisonCount() {
-        return comparisonCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-
     @Override
     public boolean requiresSortedList() {
         return true;
     }
-
-    @Override
-    public void resetCounters() {
-        this.comparisonCount = 0;
-        this.executionTime = 0;
-    }
-
-    @Override
-    public String toString() {
-        return String.format("%s [Comparisons: %d, Time: %dms, Requires Sorted: %s]",
-                getAlgorithmName(), comparisonCount, executionTime,
-                requiresSortedList() ? "Yes" : "No");
-    }
 }
@@ -0,0 +1,131 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exponential (galloping) Search implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * Exponential Search probes indices 1, 2, 4, 8, ... until it reaches an element
+ * not less than the target or runs past the end, then binary searches between
+ * the last two probes. It never needs the length of the data, so besides sorted
+ * lists it searches any {@link SortedSource}, such as pages read from disk.
+ * <p>
+ * Characteristics: <br/>
+ * - Requires data sorted by the comparator <br/>
+ * - Works on sources of unknown length <br/>
+ * - Touches only O(log i) elements for a target at index i, so targets near
+ * the front (recent IDs) are found fastest
+ * <p>
+ * Time Complexity: <br/>
+ * - Best Case: O(1) - target is the first element <br/>
+ * - Average/Worst Case: O(log i), at most O(log n)
+ * <p>
+ * Space Complexity: O(1)
+ * <p>
+ * Use Cases: <br/>
+ * - Sorted data paged from disk or streamed <br/>
+ * - Lookups that usually hit the front of a long sorted list
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ExponentialSearchStrategy extends AbstractSearchStrategy {
+    public ExponentialSearchStrategy() {
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public ExponentialSearchStrategy(boolean instrumented) {
+        super(instrumented);
+    }
+
+    /**
+     * Searches a sorted source of unknown length.
+     */
+    public <T> SearchStatistics search(SortedSource<T> source, T target, Comparator<T> comparator) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        return measure(comparator, (counted, counters) -> exponentialSearch(source, target, counted));
+    }
+
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
+        return exponentialSearch(SortedSource.of(list), target, comparator);
+    }
+
+    private static <T> int exponentialSearch(SortedSource<T> source, T target, Comparator<T> comparator) {
+        T first = source.get(0);
+        if (first == null) {
+            return -1;
+        }
+
+        int comparison = comparator.compare(first, target);
+        if (comparison >= 0) {
+            return comparison == 0 ? 0 : -1;
+        }
+
+        // Gallop until an element is not less than the target or the source ends
+        int bound = 1;
+        while (true) {
+            T element = source.get(bound);
+            if (element == null || comparator.compare(element, target) >= 0 || bound == Integer.MAX_VALUE) {
+                break;
+            }
+            bound = bound > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : bound * 2;
+        }
+
+        // The target lies after the previous probe and at or before this one
+        int left = bound / 2 + 1;
+        int right = bound;
+
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            T element = source.get(mid);
+
+            // Past the end counts as greater than any target
+            comparison = element == null ? 1 : comparator.compare(element, target);
+
+            if (comparison == 0) {
+                return mid;
+            } else if (comparison < 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Exponential Search";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(log i)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+
+    @Override
+    public boolean requiresSortedList() {
+        return true;
+    }
+}
@@ -0,0 +1,109 @@
+package org.abk.student.management.system.algorithms.searching;
+
+/**
+ * Static search index over sorted {@code long} keys in Eytzinger (BFS) order.
+ * <p>
+ * Layout: <br/>
+ * The keys are stored as an implicit binary search tree in a primitive array:
+ * the root at slot 1 and the children of slot k at 2k and 2k + 1, like a binary
+ * heap. A lookup walks from the root down, so the first levels shared by every
+ * lookup stay in cache, and the descendants of a slot four levels down
+ * (16k ... 16k + 15) lie next to each other in one or two cache lines, which the
+ * hardware prefetcher brings in ahead of the descent. A sorted array visits
+ * far-apart positions on every step instead.
+ * <p>
+ * Search: <br/>
+ * The descent has no data-dependent branch: each step computes
+ * {@code k = 2k + (key[k] < target)}, which the JIT compiles to a conditional
+ * move, so there are no branch mispredictions. When the walk falls off the
+ * tree, the trailing one bits of k encode the right turns taken after the
+ * answer; shifting them out gives the slot of the lower bound.
+ * <p>
+ * The index is immutable; a change in the data needs a new index.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public final class EytzingerIndex {
+    // Slot numbers reach 2n + 1 during a descent and must stay positive: 2n + 1 <= Integer.MAX_VALUE
+    public static final int MAX_SIZE = (1 << 30) - 1;
+
+    private final long[] keys;
+    private final int[] positions;
+    private final int size;
+
+    private EytzingerIndex(long[] keys, int[] positions, int size) {
+        this.keys = keys;
+        this.positions = positions;
+        this.size = size;
+    }
+
+    /**
+     * Builds an index over keys sorted in ascending order.
+     */
+    public static EytzingerIndex build(long[] sortedKeys) {
+        if (sortedKeys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+
+        for (int i = 1; i < sortedKeys.length; i++) {
+            if (sortedKeys[i - 1] > sortedKeys[i]) {
+                throw new IllegalArgumentException("Keys must be sorted in ascending order");
+            }
+        }
+
+        int size = sortedKeys.length;
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("An index holds at most " + MAX_SIZE + " keys");
+        }
+
+        long[] keys = new long[size + 1];
+        int[] positions = new int[size + 1];
+
+        // An in-order walk of the implicit tree visits the slots in sorted order
+        int next = 0;
+        int slot = 1;
+        int[] stack = new int[33];
+        int depth = 0;
+        while (slot <= size || depth > 0) {
+            if (slot <= size) {
+                stack[depth++] = slot;
+                slot = 2 * slot;
+            } else {
+                slot = stack[--depth];
+                keys[slot] = sortedKeys[next];
+                positions[slot] = next;
+                next++;
+                slot = 2 * slot + 1;
+            }
+        }
+
+        return new EytzingerIndex(keys, positions, size);
+    }
+
+    /**
+     * Returns the sorted position of the first key not less than {@code target},
+     * or {@link #size()} if every key is smaller.
+     */
+    public int lowerBound(long target) {
+        int slot = 1;
+        while (slot <= size) {
+            slot = 2 * slot + (keys[slot] < target ? 1 : 0);
+        }
+
+        // Undo the right turns taken after the last left turn
+        slot >>>= Integer.numberOfTrailingZeros(~slot) + 1;
+        return slot == 0 ? size : positions[slot];
+    }
+
+    /**
+     * Number of key comparisons one lookup makes: the height of the tree.
+     */
+    public int depth() {
+        return 32 - Integer.numberOfLeadingZeros(size);
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,245 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Eytzinger Search implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * {@link #prepare} reads a {@code long} key from every element of a list and
+ * builds an {@link EytzingerIndex} over them; searches of that list descend the
+ * primitive, cache-friendly array instead of calling {@code list.get(mid)} and
+ * the comparator on scattered objects. Only the candidate the index points at
+ * (and any elements with an equal key after it) is compared with the comparator
+ * to confirm the match.
+ * <p>
+ * Characteristics: <br/>
+ * - Requires a list sorted so that the keys ascend <br/>
+ * - Requires a {@code long} key that grows with the comparator's order <br/>
+ * - If the keys of the list do not ascend (the key disagrees with the order the
+ * list was sorted by), it searches with plain binary search instead <br/>
+ * - Static index: it is used only for the list instance passed to {@link #prepare},
+ * and only while the modification count given with it is unchanged (and the list
+ * keeps its size). A list prepared without a count must not change afterwards;
+ * otherwise call {@link #prepare} again or {@link #invalidate()} <br/>
+ * - A list that was not prepared, or whose index is stale, is searched with plain
+ * binary search; an index is never built during a search <br/>
+ * - Comparisons count the key comparisons of the descent plus comparator calls <br/>
+ * - {@link #searchElements} is the type-safe entry point; {@link #search} checks
+ * that the target and every element it reads are of the element type and rejects
+ * others with an {@link IllegalArgumentException}
+ * <p>
+ * Time Complexity: <br/>
+ * - Building: O(n), once per {@link #prepare} <br/>
+ * - Search: O(log n), with few cache misses and no branch mispredictions when prepared
+ * <p>
+ * Space Complexity: O(n) - one {@code long} and one {@code int} per element
+ * <p>
+ * Use Cases: <br/>
+ * - Many lookups in a large list that rarely changes (by numeric ID or mark)
+ *
+ * @param <E> type of the elements the key extractor reads
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class EytzingerSearchStrategy<E> extends AbstractSearchStrategy {
+    private final Class<E> elementType;
+    private final ToLongFunction<? super E> keyExtractor;
+
+    private volatile IndexedList preparedList;
+
+    public EytzingerSearchStrategy(Class<E> elementType, ToLongFunction<? super E> keyExtractor) {
+        this(elementType, keyExtractor, true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public EytzingerSearchStrategy(Class<E> elementType, ToLongFunction<? super E> keyExtractor,
+                                   boolean instrumented) {
+        super(instrumented);
+
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+
+        this.elementType = elementType;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Type-safe version of {@link #search}: the key extractor is applied without checks.
+     */
+    public SearchStatistics searchElements(List<? extends E> list, E target, Comparator<? super E> comparator) {
+        validateInputs(list, target, comparator);
+
+        return measure(comparator,
+                (counted, counters) -> eytzingerSearch(list, target, counted, keyExtractor, counters));
+    }
+
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
+        return eytzingerSearch(list, target, comparator, this::checkedKey, counters);
+    }
+
+    @Override
+    protected void validateInputs(List<?> list, Object target, Comparator<?> comparator) {
+        super.validateInputs(list, target, comparator);
+
+        if (!elementType.isInstance(target)) {
+            throw new IllegalArgumentException("Target must be a " + elementType.getSimpleName());
+        }
+    }
+
+    private long checkedKey(Object element) {
+        if (!elementType.isInstance(element)) {
+            throw new IllegalArgumentException("List elements must be of type " + elementType.getSimpleName());
+        }
+
+        return keyExtractor.applyAsLong(elementType.cast(element));
+    }
+
+    private <T> int eytzingerSearch(List<? extends T> list, T target, Comparator<? super T> comparator,
+                                    ToLongFunction<? super T> key, SearchCounters counters) {
+        EytzingerIndex index = indexFor(list);
+        if (index == null) {
+            return binarySearch(list, target, comparator);
+        }
+
+        long targetKey = key.applyAsLong(target);
+
+        int position = index.lowerBound(targetKey);
+        counters.addComparisons(index.depth());
+
+        // Equal keys may belong to elements the comparator tells apart
+        for (int i = position; i < list.size() && key.applyAsLong(list.get(i)) == targetKey; i++) {
+            if (comparator.compare(list.get(i), target) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static <T> int binarySearch(List<? extends T> list, T target, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = list.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = comparator.compare(list.get(mid), target);
+            if (comparison == 0) {
+                return mid;
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Builds the index for {@code list}, which must not change afterwards, and keeps it
+     * for later searches of that list instance.
+     *
+     * @return {@code false} if the keys of the list do not ascend, so searches of it
+     * use binary search instead of an index
+     */
+    public boolean prepare(List<? extends E> list) {
+        return prepare(list, () -> 0);
+    }
+
+    /**
+     * Builds the index for {@code list} and keeps it for later searches of that list
+     * instance while {@code modificationCount} returns the value it has now, e.g. the
+     * count of the repository the list is kept in step with.
+     *
+     * @return {@code false} if the keys of the list do not ascend, so searches of it
+     * use binary search instead of an index
+     */
+    public boolean prepare(List<? extends E> list, LongSupplier modificationCount) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        if (modificationCount == null) {
+            throw new IllegalArgumentException("Modification count cannot be null");
+        }
+
+        long version = modificationCount.getAsLong();
+        EytzingerIndex index = buildIndex(list, keyExtractor);
+        preparedList = new IndexedList(list, list.size(), modificationCount, version, index);
+        return index != null;
+    }
+
+    /**
+     * Drops the prepared index, so searches use binary search until the next {@link #prepare}.
+     */
+    public void invalidate() {
+        preparedList = null;
+    }
+
+    /**
+     * Returns the prepared index of {@code list}, or {@code null} if there is none or it is stale.
+     */
+    private EytzingerIndex indexFor(List<?> list) {
+        IndexedList prepared = preparedList;
+        if (prepared == null || prepared.list() != list || prepared.size() != list.size()
+                || prepared.modificationCount().getAsLong() != prepared.version()) {
+            return null;
+        }
+
+        return prepared.index();
+    }
+
+    /**
+     * Returns the index over the keys of {@code list}, or {@code null} if they do not ascend.
+     */
+    private static <T> EytzingerIndex buildIndex(List<? extends T> list, ToLongFunction<? super T> key) {
+        long[] keys = new long[list.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.applyAsLong(list.get(i));
+            if (i > 0 && keys[i - 1] > keys[i]) {
+                return null;
+            }
+        }
+
+        return EytzingerIndex.build(keys);
+    }
+
+    /**
+     * A prepared list, its size and modification count when it was prepared and its
+     * index ({@code null} when its keys do not ascend).
+     */
+    private record IndexedList(List<?> list, int size, LongSupplier modificationCount, long version,
+                               EytzingerIndex index) {
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Eytzinger Search";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(log n), O(n) index build";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    public boolean requiresSortedList() {
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.List;
+
+/**
+ * Half-open range of list positions {@code [from, to)}.
+ * <p>
+ * An empty range ({@code from == to}) still carries a position: the insertion
+ * point where the missing elements would go.
+ *
+ * @param from first position in the range
+ * @param to   position just after the last one
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record IndexRange(int from, int to) {
+    public IndexRange {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    /**
+     * Returns the elements of {@code list} in this range, as a view.
+     */
+    public <T> List<T> subList(List<T> list) {
+        return list.subList(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + ")";
+    }
+}
@@ -0,0 +1,177 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Interpolation Search implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * Interpolation Search works on sorted lists whose elements have a numeric key.
+ * Instead of probing the middle of the remaining range, it estimates where the
+ * target should be from the keys at both ends of the range, the way one opens a
+ * phone book near "S" for "Smith". The comparator still decides every step, so
+ * the key only chooses probe positions and never affects correctness.
+ * <p>
+ * Fallback: <br/>
+ * When the keys are skewed, an estimate can remove only a few elements. Whenever
+ * a probe leaves more than half of the range, the next probe is a binary search
+ * midpoint, so at least every second step halves the range. Ranges whose end keys
+ * are equal (or not numbers) are always bisected.
+ * <p>
+ * Characteristics: <br/>
+ * - Requires a list sorted by the comparator (ascending or descending) <br/>
+ * - Requires a numeric key that grows or shrinks with that order <br/>
+ * - Very few probes on uniformly distributed keys <br/>
+ * - Never worse than about twice the probes of binary search <br/>
+ * - {@link #searchElements} is the type-safe entry point; {@link #search} checks
+ * that the target and every element it reads are of the element type and rejects
+ * others with an {@link IllegalArgumentException}
+ * <p>
+ * Time Complexity: <br/>
+ * - Best Case: O(1) <br/>
+ * - Average Case: O(log log n) - uniformly distributed keys <br/>
+ * - Worst Case: O(log n) - skewed keys, with the binary search fallback
+ * <p>
+ * Space Complexity: O(1)
+ * <p>
+ * Use Cases: <br/>
+ * - Sequential numeric IDs (S0001 ... S9999) <br/>
+ * - Lists sorted by mark
+ *
+ * @param <E> type of the elements the key extractor reads
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class InterpolationSearchStrategy<E> extends AbstractSearchStrategy {
+    private final Class<E> elementType;
+    private final ToDoubleFunction<? super E> keyExtractor;
+
+    public InterpolationSearchStrategy(Class<E> elementType, ToDoubleFunction<? super E> keyExtractor) {
+        this(elementType, keyExtractor, true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public InterpolationSearchStrategy(Class<E> elementType, ToDoubleFunction<? super E> keyExtractor,
+                                       boolean instrumented) {
+        super(instrumented);
+
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+
+        this.elementType = elementType;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Type-safe version of {@link #search}: the key extractor is applied without checks.
+     */
+    public SearchStatistics searchElements(List<? extends E> list, E target, Comparator<? super E> comparator) {
+        validateInputs(list, target, comparator);
+
+        return measure(comparator, (counted, counters) -> interpolationSearch(list, target, counted, keyExtractor));
+    }
+
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
+        return interpolationSearch(list, target, comparator, this::checkedKey);
+    }
+
+    @Override
+    protected void validateInputs(List<?> list, Object target, Comparator<?> comparator) {
+        super.validateInputs(list, target, comparator);
+
+        if (!elementType.isInstance(target)) {
+            throw new IllegalArgumentException("Target must be a " + elementType.getSimpleName());
+        }
+    }
+
+    private double checkedKey(Object element) {
+        if (!elementType.isInstance(element)) {
+            throw new IllegalArgumentException("List elements must be of type " + elementType.getSimpleName());
+        }
+
+        return keyExtractor.applyAsDouble(elementType.cast(element));
+    }
+
+    private static <T> int interpolationSearch(List<? extends T> list, T target, Comparator<? super T> comparator,
+                                               ToDoubleFunction<? super T> key) {
+        double targetKey = key.applyAsDouble(target);
+
+        int low = 0;
+        int high = list.size() - 1;
+        boolean bisectNext = false;
+
+        while (low <= high) {
+            int probe = bisectNext
+                    ? low + (high - low) / 2
+                    : interpolate(low, high, key.applyAsDouble(list.get(low)),
+                            key.applyAsDouble(list.get(high)), targetKey);
+
+            int comparison = comparator.compare(list.get(probe), target);
+
+            if (comparison == 0) {
+                return probe;
+            }
+
+            int range = high - low;
+            if (comparison < 0) {
+                low = probe + 1;
+            } else {
+                high = probe - 1;
+            }
+
+            // A probe that removed less than half of the range points to skewed keys
+            bisectNext = !bisectNext && high - low > range / 2;
+        }
+
+        return -1;
+    }
+
+    private static int interpolate(int low, int high, double lowKey, double highKey, double targetKey) {
+        double fraction = (targetKey - lowKey) / (highKey - lowKey);
+
+        // Equal end keys or NaN keys give no estimate
+        if (Double.isNaN(fraction) || Double.isInfinite(fraction)) {
+            fraction = 0.5;
+        }
+
+        fraction = Math.max(0.0, Math.min(1.0, fraction));
+        return low + (int) (fraction * (high - low));
+    }
+
+    public Class<E> getElementType() {
+        return elementType;
+    }
+
+    public ToDoubleFunction<? super E> getKeyExtractor() {
+        return keyExtractor;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Interpolation Search";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(log log n) avg, O(log n) worst";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(1)";
+    }
+
+    @Override
+    public boolean requiresSortedList() {
+        return true;
+    }
+}
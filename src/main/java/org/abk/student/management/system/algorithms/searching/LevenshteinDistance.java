@@ -0,0 +1,64 @@
+package org.abk.student.management.system.algorithms.searching;
+
+/**
+ * Levenshtein (edit) distance between two strings.
+ * <p>
+ * The distance is the minimum number of single-character insertions, deletions
+ * and substitutions that turn one string into the other ("jonson" -> "johnson"
+ * is 1). It is a metric, which {@link BKTree} relies on for pruning. The common
+ * restricted variant that counts a transposition as one edit is not, so a
+ * transposition costs two here.
+ * <p>
+ * Time Complexity: O(m * n) <br/>
+ * Space Complexity: O(min(m, n)) - two rows of the dynamic-programming table
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class LevenshteinDistance {
+    private LevenshteinDistance() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static int compute(String first, String second) {
+        if (first == null || second == null) {
+            throw new IllegalArgumentException("Strings cannot be null");
+        }
+
+        // Keep the shorter string along the row
+        if (first.length() < second.length()) {
+            String swap = first;
+            first = second;
+            second = swap;
+        }
+
+        int columns = second.length();
+        if (columns == 0) {
+            return first.length();
+        }
+
+        int[] previous = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            char c = first.charAt(i - 1);
+            current[0] = i;
+
+            for (int j = 1; j <= columns; j++) {
+                int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(substitution, Math.min(deletion, insertion));
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[columns];
+    }
+}
@@ -45,47 +45,27 @@ import java.util.List;
  * @author Soft Development ABK
  * @version 1.0
  */
-public class LinearSearchStrategy implements SearchStrategy {
-    private long comparisonCount;
-    private long executionTime;
-
+public class LinearSearchStrategy extends AbstractSearchStrategy {
     public LinearSearchStrategy() {
-        resetCounters();
+        super();
     }
 
-    @Override
-    public <T> int searchIndex(List<T> list, T target, Comparator<T> comparator) {
-        validateInputs(list, target, comparator);
-
-        resetCounters();
-        long startTime = System.currentTimeMillis();
-
-        int index = -1;
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public LinearSearchStrategy(boolean instrumented) {
+        super(instrumented);
+    }
 
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
         for (int i = 0; i < list.size(); i++) {
-            comparisonCount++;
-
             if (comparator.compare(list.get(i), target) == 0) {
-                index = i;
-                break;
+                return i;
             }
         }
 
-        executionTime = System.currentTimeMillis() - startTime;
-
-        return index;
-    }
-
-    private <T> void validateInputs(List<T> list, T target, Comparator<T> comparator) {
-        if (list == null) {
-            throw new IllegalArgumentException("List cannot be null");
-        }
-        if (target == null) {
-            throw new IllegalArgumentException("Target cannot be null");
-        }
-        if (comparator == null) {
-            throw new IllegalArgumentException("Comparator cannot be null");
-        }
+        return -1;
     }
 
     @Override
@@ -103,31 +83,8 @@ public class LinearSearchStrategy implements SearchStrategy {
         return "O(1)";
     }
 
-    @Override
-    public long getComparisonCount() {
-        return comparisonCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-
     @Override
     public boolean requiresSortedList() {
         return false;
     }
-
-    @Override
-    public void resetCounters() {
-        this.comparisonCount = 0;
-        this.executionTime = 0;
-    }
-
-    @Override
-    public String toString() {
-        return String.format("%s [Comparisons: %d, Time: %dms, Requires Sorted: %s]",
-                getAlgorithmName(), comparisonCount, executionTime,
-                requiresSortedList() ? "Yes" : "No");
-    }
 }
@@ -0,0 +1,157 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import org.abk.student.management.system.algorithms.CountingComparator;
+import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+import org.abk.student.management.system.algorithms.sorting.TimSortStrategy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Batch lookup of many keys in sorted data with a single galloping merge-join.
+ * <p>
+ * Algorithm Description: <br/>
+ * The probe keys are sorted once (positions only, so the caller's order is kept).
+ * The keys are then walked in ascending order while a cursor moves forward
+ * through the sorted data: from the cursor, each key gallops ahead (1, 2, 4, ...
+ * elements) until it passes the key, then binary searches the last step. The
+ * cursor never moves back, so the data is read at most once, and keys that land
+ * close together cost only a few comparisons each. Duplicate keys reuse the
+ * previous answer.
+ * <p>
+ * Time Complexity: O(m log m + m log(n / m)) for m keys and n elements,
+ * never worse than m separate binary searches
+ * <p>
+ * Space Complexity: O(m)
+ * <p>
+ * Prerequisites: <br/>
+ * - The data MUST be sorted by the key comparator applied to the extracted keys <br/>
+ * - Keys must not be {@code null}
+ * <p>
+ * The probe keys are sorted with {@link TimSortStrategy} by default, which is
+ * linear when the keys arrive already sorted. Instances hold no per-call state.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class MergeJoinSearch {
+    private final SortStrategy probeSortStrategy;
+
+    public MergeJoinSearch() {
+        this(new TimSortStrategy(false));
+    }
+
+    public MergeJoinSearch(SortStrategy probeSortStrategy) {
+        if (probeSortStrategy == null) {
+            throw new IllegalArgumentException("Probe sort strategy cannot be null");
+        }
+
+        this.probeSortStrategy = probeSortStrategy;
+    }
+
+    /**
+     * Looks up every key in {@code probes} among the keys of {@code sortedData}.
+     */
+    public <T, K> BatchSearchResult<K, T> search(List<T> sortedData, Function<? super T, ? extends K> keyExtractor,
+                                                 Collection<? extends K> probes, Comparator<K> keyComparator) {
+        if (sortedData == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+        if (probes == null) {
+            throw new IllegalArgumentException("Probe keys cannot be null");
+        }
+        if (keyComparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        List<K> keys = new ArrayList<>(probes);
+        for (K key : keys) {
+            if (key == null) {
+                throw new IllegalArgumentException("Probe keys cannot contain null");
+            }
+        }
+
+        CountingComparator<K> comparator = CountingComparator.sequential(keyComparator);
+
+        // Sort positions, not keys, so results can be written back in the caller's order
+        List<Integer> order = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            order.add(i);
+        }
+        probeSortStrategy.sort(order, (a, b) -> comparator.compare(keys.get(a), keys.get(b)));
+
+        List<T> matches = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        int cursor = 0;
+        K previousKey = null;
+        T previousMatch = null;
+
+        for (int position : order) {
+            K key = keys.get(position);
+
+            if (previousKey == null || comparator.compare(previousKey, key) != 0) {
+                cursor = gallop(sortedData, keyExtractor, key, comparator, cursor);
+                previousMatch = cursor < sortedData.size()
+                        && comparator.compare(keyExtractor.apply(sortedData.get(cursor)), key) == 0
+                        ? sortedData.get(cursor)
+                        : null;
+                previousKey = key;
+            }
+
+            matches.set(position, previousMatch);
+        }
+
+        List<K> missingKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (matches.get(i) == null) {
+                missingKeys.add(keys.get(i));
+            }
+        }
+
+        return new BatchSearchResult<>(matches, missingKeys, comparator.getCount(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Returns the first position at or after {@code from} whose key is not less than {@code target}.
+     */
+    private static <T, K> int gallop(List<T> data, Function<? super T, ? extends K> keyExtractor, K target,
+                                     Comparator<K> comparator, int from) {
+        int size = data.size();
+        int low = from;
+        int probe = from;
+        long step = 1;
+
+        // Everything before low is known to be smaller than the target
+        while (probe < size && comparator.compare(keyExtractor.apply(data.get(probe)), target) < 0) {
+            low = probe + 1;
+            probe = (int) Math.min(size, from + step);
+            step *= 2;
+        }
+
+        int high = probe;
+        while (low < high) {
+            int mid = low + (high - low) / 2;
+
+            if (comparator.compare(keyExtractor.apply(data.get(mid)), target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    public SortStrategy getProbeSortStrategy() {
+        return probeSortStrategy;
+    }
+}
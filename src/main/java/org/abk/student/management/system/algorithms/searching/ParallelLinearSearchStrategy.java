@@ -0,0 +1,195 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel Linear Search implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * The list is split in halves by a {@link ForkJoinPool} until each piece is small
+ * enough to scan; the pieces are scanned concurrently. A shared "lowest match so
+ * far" is updated whenever a match is found: <br/>
+ * - A scan stops at its first match, since later matches in its piece cannot win <br/>
+ * - Every {@value #CHECK_INTERVAL} elements a scan checks the shared match and
+ * stops once a match lies before its position (early termination) <br/>
+ * - Pieces that start after the lowest match are skipped without being scanned
+ * <p>
+ * The result is always the lowest matching index, exactly as in
+ * {@link LinearSearchStrategy}, however the work was scheduled.
+ * <p>
+ * Characteristics: <br/>
+ * - Works on unsorted lists <br/>
+ * - Deterministic result (lowest matching index) <br/>
+ * - Comparisons are aggregated across workers with a LongAdder when instrumented <br/>
+ * - Lists below the sequential cutoff, lists without fast random access and
+ * single-threaded pools are scanned sequentially
+ * <p>
+ * Time Complexity: <br/>
+ * - Work: O(n) <br/>
+ * - Span: O(n / p + log n) for p workers
+ * <p>
+ * Space Complexity: O(log n) - task stack
+ * <p>
+ * The default cutoff of {@value #DEFAULT_SEQUENTIAL_CUTOFF} elements is where the
+ * fork-join overhead is repaid; {@code ParallelSearchBenchmarkUtil} measures the
+ * crossover on the running machine. The comparator must be stateless.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ParallelLinearSearchStrategy extends AbstractSearchStrategy {
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 16_384;
+    private static final int CHECK_INTERVAL = 1024;
+    private static final int PIECES_PER_WORKER = 4;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    public ParallelLinearSearchStrategy() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public ParallelLinearSearchStrategy(int sequentialCutoff) {
+        this(ForkJoinPool.commonPool(), sequentialCutoff);
+    }
+
+    public ParallelLinearSearchStrategy(ForkJoinPool pool, int sequentialCutoff) {
+        this(pool, sequentialCutoff, true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and measure their time
+     */
+    public ParallelLinearSearchStrategy(ForkJoinPool pool, int sequentialCutoff, boolean instrumented) {
+        super(instrumented);
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork-join pool cannot be null");
+        }
+
+        if (sequentialCutoff <= 0) {
+            throw new IllegalArgumentException("Sequential cutoff must be positive");
+        }
+
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    protected <T> int findIndex(List<T> list, T target, Comparator<T> comparator, SearchCounters counters) {
+        int size = list.size();
+        AtomicInteger lowestMatch = new AtomicInteger(NOT_FOUND);
+
+        if (size < sequentialCutoff || pool.getParallelism() == 1 || !(list instanceof RandomAccess)) {
+            scan(list, target, comparator, 0, size, lowestMatch);
+        } else {
+            int pieceSize = Math.max(CHECK_INTERVAL, size / (pool.getParallelism() * PIECES_PER_WORKER));
+            pool.invoke(new SearchTask<>(list, target, comparator, 0, size, pieceSize, lowestMatch));
+        }
+
+        int index = lowestMatch.get();
+        return index == NOT_FOUND ? -1 : index;
+    }
+
+    @Override
+    protected boolean comparesConcurrently() {
+        return true;
+    }
+
+    /**
+     * Scans {@code [from, to)} and records its first match, giving up once a lower match is known.
+     */
+    private static <T> void scan(List<T> list, T target, Comparator<T> comparator, int from, int to,
+                                 AtomicInteger lowestMatch) {
+        for (int blockStart = from; blockStart < to; blockStart += CHECK_INTERVAL) {
+            if (lowestMatch.get() < blockStart) {
+                return;
+            }
+
+            int blockEnd = Math.min(to, blockStart + CHECK_INTERVAL);
+            for (int i = blockStart; i < blockEnd; i++) {
+                if (comparator.compare(list.get(i), target) == 0) {
+                    lowestMatch.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class SearchTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> list;
+        private final T target;
+        private final Comparator<T> comparator;
+        private final int from;
+        private final int to;
+        private final int pieceSize;
+        private final AtomicInteger lowestMatch;
+
+        SearchTask(List<T> list, T target, Comparator<T> comparator, int from, int to, int pieceSize,
+                   AtomicInteger lowestMatch) {
+            this.list = list;
+            this.target = target;
+            this.comparator = comparator;
+            this.from = from;
+            this.to = to;
+            this.pieceSize = pieceSize;
+            this.lowestMatch = lowestMatch;
+        }
+
+        @Override
+        protected void compute() {
+            if (lowestMatch.get() < from) {
+                return;
+            }
+
+            if (to - from <= pieceSize) {
+                scan(list, target, comparator, from, to, lowestMatch);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            SearchTask<T> right = new SearchTask<>(list, target, comparator, mid, to, pieceSize, lowestMatch);
+            right.fork();
+
+            // The left half runs here first, so low indices are scanned early
+            new SearchTask<>(list, target, comparator, from, mid, pieceSize, lowestMatch).compute();
+
+            if (lowestMatch.get() < mid && right.tryUnfork()) {
+                return;
+            }
+            right.join();
+        }
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel Linear Search";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n) work, O(n/p) span";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+
+    @Override
+    public boolean requiresSortedList() {
+        return false;
+    }
+}
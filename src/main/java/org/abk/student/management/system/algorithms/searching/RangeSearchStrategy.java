@@ -0,0 +1,33 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Search strategy that also answers bound and range queries on sorted lists.
+ * <p>
+ * The list must be sorted by the comparator. Every query takes O(log n)
+ * comparisons; reading the matching elements through
+ * {@link IndexRange#subList} adds only the size of the output. <br/>
+ * - {@link #lowerBound}: first position whose element is not less than the target <br/>
+ * - {@link #upperBound}: first position whose element is greater than the target <br/>
+ * - {@link #equalRange}: the block of elements equal to the target <br/>
+ * - {@link #rangeBetween}: elements from {@code low} to {@code high}, both inclusive
+ * <p>
+ * The bounds are insertion points, so the index of their statistics is never -1.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public interface RangeSearchStrategy extends SearchStrategy {
+    <T> SearchStatistics lowerBound(List<T> list, T target, Comparator<T> comparator);
+
+    <T> SearchStatistics upperBound(List<T> list, T target, Comparator<T> comparator);
+
+    <T> RangeStatistics equalRange(List<T> list, T target, Comparator<T> comparator);
+
+    /**
+     * Returns the elements {@code e} with {@code low <= e <= high}; empty when {@code low > high}.
+     */
+    <T> RangeStatistics rangeBetween(List<T> list, T low, T high, Comparator<T> comparator);
+}
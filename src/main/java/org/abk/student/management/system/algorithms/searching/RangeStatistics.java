@@ -0,0 +1,23 @@
+package org.abk.student.management.system.algorithms.searching;
+
+/**
+ * Immutable result and measurements of a single range search call.
+ *
+ * @param algorithmName name of the algorithm that did the work
+ * @param range         positions of the matching elements (empty at the insertion point if none)
+ * @param comparisons   comparisons made
+ * @param executionTime wall-clock time in milliseconds
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record RangeStatistics(String algorithmName, IndexRange range, long comparisons, long executionTime) {
+    public boolean found() {
+        return !range.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Range: %s, Elements: %d, Comparisons: %d, Time: %dms]",
+                algorithmName, range, range.size(), comparisons, executionTime);
+    }
+}
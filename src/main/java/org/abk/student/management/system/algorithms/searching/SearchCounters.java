@@ -0,0 +1,40 @@
+package org.abk.student.management.system.algorithms.searching;
+
+/**
+ * Mutable comparison count of one search call in progress.
+ * <p>
+ * An instrumented call creates a fresh instance and passes it down to the
+ * algorithm, so concurrent searches on the same strategy never share counts.
+ * Not thread-safe. Uninstrumented calls pass {@link #NONE}, whose methods do nothing.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SearchCounters {
+    /**
+     * Counters that discard everything, used by uninstrumented strategies.
+     */
+    public static final SearchCounters NONE = new SearchCounters() {
+        @Override
+        public void countComparison() {
+        }
+
+        @Override
+        public void addComparisons(long count) {
+        }
+    };
+
+    private long comparisons;
+
+    public void countComparison() {
+        comparisons++;
+    }
+
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+}
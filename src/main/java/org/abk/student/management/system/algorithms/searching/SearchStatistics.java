@@ -0,0 +1,26 @@
+package org.abk.student.management.system.algorithms.searching;
+
+/**
+ * Immutable result and measurements of a single search call.
+ * <p>
+ * Returned by {@link SearchStrategy#search}, so one strategy instance can serve
+ * concurrent callers and each of them still sees the figures of its own call.
+ *
+ * @param algorithmName name of the algorithm that did the work
+ * @param index         position of the match, or -1 if the target is not present
+ * @param comparisons   comparisons made
+ * @param executionTime wall-clock time in milliseconds
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record SearchStatistics(String algorithmName, int index, long comparisons, long executionTime) {
+    public boolean found() {
+        return index != -1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Index: %d, Comparisons: %d, Time: %dms]",
+                algorithmName, index, comparisons, executionTime);
+    }
+}
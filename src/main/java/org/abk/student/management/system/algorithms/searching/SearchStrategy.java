@@ -13,12 +13,17 @@ import java.util.List;
  * - Encapsulates searching algorithms <br/>
  * - Makes them interchangeable <br/>
  * - Allows runtime algorithm selection
+ * <p>
+ * Statistics: <br/>
+ * {@link #search} returns the {@link SearchStatistics} of that call. The counter
+ * getters are kept for compatibility and report the last finished call; they are
+ * only meaningful when the instance is not shared between threads.
  *
  * @author Soft Development ABK
  * @version 1.0
  */
 public interface SearchStrategy {
-    <T> int searchIndex(List<T> list, T target, Comparator<T> comparator);
+    <T> SearchStatistics search(List<T> list, T target, Comparator<T> comparator);
     String getAlgorithmName();
     String getTimeComplexity();
     String getSpaceComplexity();
@@ -26,4 +31,19 @@ public interface SearchStrategy {
     long getExecutionTime();
     boolean requiresSortedList();
     void resetCounters();
+
+    /**
+     * Whether calls count comparisons and measure their time. Uninstrumented
+     * strategies do no bookkeeping and return statistics with zero counts.
+     */
+    default boolean isInstrumented() {
+        return true;
+    }
+
+    /**
+     * Returns the index of an element equal to {@code target}, or -1 if there is none.
+     */
+    default <T> int searchIndex(List<T> list, T target, Comparator<T> comparator) {
+        return search(list, target, comparator).index();
+    }
 }
@@ -0,0 +1,67 @@
+package org.abk.student.management.system.algorithms.searching;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Sorted sequence read by index whose length need not be known in advance.
+ * <p>
+ * A source answers {@link #get} for every index before its end and returns
+ * {@code null} from the first index past it, so a search can probe ahead
+ * without asking for the size. Elements are never {@code null}. <br/>
+ * - {@link #of(List)}: a list that is already in memory <br/>
+ * - {@link #paged(int, IntFunction)}: pages loaded on demand, e.g. from disk,
+ * so only the pages that are probed are ever read
+ *
+ * @param <T> type of the elements
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SortedSource<T> {
+    /**
+     * Returns the element at {@code index}, or {@code null} if the source ends before it.
+     */
+    T get(int index);
+
+    static <T> SortedSource<T> of(List<T> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        return index -> index < list.size() ? list.get(index) : null;
+    }
+
+    /**
+     * Returns a source that loads page {@code p} (elements {@code p * pageSize} onwards)
+     * with {@code pageLoader} the first time it is needed. A page shorter than
+     * {@code pageSize}, or a {@code null} page, marks the end of the source. The
+     * most recently loaded page is kept; the source is not thread-safe.
+     */
+    static <T> SortedSource<T> paged(int pageSize, IntFunction<List<T>> pageLoader) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        if (pageLoader == null) {
+            throw new IllegalArgumentException("Page loader cannot be null");
+        }
+
+        return new SortedSource<>() {
+            private int loadedPage = -1;
+            private List<T> page;
+
+            @Override
+            public T get(int index) {
+                int pageNumber = index / pageSize;
+                if (pageNumber != loadedPage) {
+                    page = pageLoader.apply(pageNumber);
+                    loadedPage = pageNumber;
+                }
+
+                int offset = index % pageSize;
+                return page != null && offset < page.size() ? page.get(offset) : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,478 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import org.abk.student.management.system.algorithms.CountingComparator;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Array-backed sorting core shared by all {@link SortStrategy} implementations.
+ * <p>
+ * The list is copied into an {@code Object[]} once, sorted on the array, and
+ * written back once through a {@link ListIterator}, so every element access during
+ * the sort is a plain array access whatever the list implementation is (a
+ * {@code LinkedList} costs O(n) per {@code get}/{@code set}). Algorithms that need
+ * working space receive a single scratch buffer taken from a thread-local pool
+ * ({@link SortBuffers}) instead of allocating per recursion level.
+ * <p>
+ * The key entry points extract the keys once into a {@code long[]} (doubles are
+ * mapped to longs that order like {@link Double#compare}) or a {@code String[]}, and
+ * sort a primitive {@code int[]} permutation of element indices compared through
+ * that array by a {@link KeyOrder}, with no boxing and no {@code Comparator} call.
+ * Equal keys are ordered by input position, so the key entry points are stable
+ * whichever algorithm sorts the permutation. Strategies implement the permutation sort in {@link #sortIndices}; the default is
+ * a stable merge sort, used by the merge-based strategies. String-specialised
+ * strategies override {@link #sortStringKeys}.
+ * <p>
+ * Subclasses implement {@link #sortArray} and count their swaps or moves in the
+ * {@link SortCounters} passed to it; validation, timing and statistics live here. Every
+ * call builds its own counters and returns its own {@link SortStatistics}, so a strategy
+ * holds no per-call state and one instance can sort on several threads at once. The
+ * legacy getters report the statistics of the most recently finished call.
+ * <p>
+ * Instrumentation: <br/>
+ * - Instrumented (default): the comparator is wrapped in a {@link CountingComparator},
+ * swaps are counted and the call is timed <br/>
+ * - Uninstrumented: the caller's comparator is used as is, the algorithm receives
+ * {@link SortCounters#NONE} and the clock is never read; statistics are all zero <br/>
+ * Algorithms therefore never count comparisons made through the comparator themselves.
+ * <p>
+ * Key sorts compare through a {@link KeyOrder}, never a comparator, so they cannot be
+ * observed by wrapping one. {@link #observeKeySorts} instead hands the key entry points
+ * of the calling thread an extra {@link SortCounters} that receives their counts as they
+ * happen, which is how a {@link MonitoredSortStrategy} follows and cancels them.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public abstract class AbstractSortStrategy implements SortStrategy {
+    private static final ThreadLocal<SortCounters> KEY_SORT_OBSERVER = new ThreadLocal<>();
+
+    private final boolean instrumented;
+    private volatile SortStatistics lastStatistics;
+
+    protected AbstractSortStrategy() {
+        this(true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    protected AbstractSortStrategy(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
+    @Override
+    public final <T> SortStatistics sort(List<T> list, Comparator<T> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        SortCounters counters = newCounters();
+        long startTime = startClock();
+
+        int size = list.size();
+        if (size > 1) {
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) list.toArray();
+            sortWithScratch(array, comparator, counters);
+            writeBack(list, array);
+        }
+
+        return finish(size, counters, startTime);
+    }
+
+    @Override
+    public final <T> SortStatistics sortByDoubleKey(List<T> list, ToDoubleFunction<? super T> keyExtractor,
+                                                    boolean ascending) {
+        validateKeyInputs(list, keyExtractor);
+
+        long[] keys = new long[list.size()];
+        int i = 0;
+        for (T element : list) {
+            keys[i++] = sortableBits(keyExtractor.applyAsDouble(element));
+        }
+
+        return sortByKeys(list, keys, ascending);
+    }
+
+    @Override
+    public final <T> SortStatistics sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor,
+                                                 boolean ascending) {
+        validateKeyInputs(list, keyExtractor);
+
+        long[] keys = new long[list.size()];
+        int i = 0;
+        for (T element : list) {
+            keys[i++] = keyExtractor.applyAsInt(element);
+        }
+
+        return sortByKeys(list, keys, ascending);
+    }
+
+    @Override
+    public final <T> SortStatistics sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor,
+                                                  boolean ascending) {
+        validateKeyInputs(list, keyExtractor);
+
+        long[] keys = new long[list.size()];
+        int i = 0;
+        for (T element : list) {
+            keys[i++] = keyExtractor.applyAsLong(element);
+        }
+
+        return sortByKeys(list, keys, ascending);
+    }
+
+    @Override
+    public final <T> SortStatistics sortByStringKey(List<T> list, Function<? super T, String> keyExtractor,
+                                                    boolean ascending) {
+        validateKeyInputs(list, keyExtractor);
+
+        String[] keys = new String[list.size()];
+        int i = 0;
+        for (T element : list) {
+            String key = keyExtractor.apply(element);
+            if (key == null) {
+                throw new IllegalArgumentException("String key cannot be null");
+            }
+            keys[i++] = key;
+        }
+
+        SortCounters counters = newKeyCounters();
+        long startTime = startClock();
+
+        if (keys.length > 1) {
+            int[] order = identityPermutation(keys.length);
+            sortStringKeys(keys, order, ascending, counters);
+            applyPermutation(list, order);
+        }
+
+        return finish(keys.length, counters, startTime);
+    }
+
+    /**
+     * Sorts an identity permutation of indices by {@code keys}. Equal keys must keep
+     * their relative order. The default compares whole
+     * strings with {@link String#compareTo} using {@link #sortIndices}. Comparisons
+     * must be added to {@code counters} by the override.
+     */
+    protected void sortStringKeys(String[] keys, int[] order, boolean ascending, SortCounters counters) {
+        sortIndices(order, KeyOrder.of(keys, ascending), counters);
+    }
+
+    private <T> SortStatistics sortByKeys(List<T> list, long[] keys, boolean ascending) {
+        SortCounters counters = newKeyCounters();
+        long startTime = startClock();
+
+        int size = keys.length;
+        if (size > 1) {
+            int[] order = identityPermutation(size);
+            sortIndices(order, KeyOrder.of(keys, ascending), counters);
+            applyPermutation(list, order);
+        }
+
+        return finish(size, counters, startTime);
+    }
+
+    /**
+     * Sorts a permutation of element indices by their keys, counting comparisons and
+     * moves in {@code counters}. The default is a stable top-down merge sort that skips
+     * the merge of runs already in order, so sorted input costs n - 1 comparisons.
+     * Strategies whose algorithm differs in character override it with a primitive
+     * version of their own algorithm.
+     */
+    void sortIndices(int[] order, KeyOrder keys, SortCounters counters) {
+        mergeSortIndices(order, 0, order.length - 1, keys, new int[(order.length + 1) / 2], counters);
+    }
+
+    private static void mergeSortIndices(int[] order, int left, int right, KeyOrder keys, int[] scratch,
+                                         SortCounters counters) {
+        if (left >= right) {
+            return;
+        }
+
+        int mid = left + (right - left) / 2;
+        mergeSortIndices(order, left, mid, keys, scratch, counters);
+        mergeSortIndices(order, mid + 1, right, keys, scratch, counters);
+
+        counters.countComparison();
+        if (keys.compare(order[mid], order[mid + 1]) <= 0) {
+            return;
+        }
+
+        // Only the left run is copied out; the write position never overtakes the right run
+        int n1 = mid - left + 1;
+        System.arraycopy(order, left, scratch, 0, n1);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = left;
+        while (i < n1 && j <= right) {
+            counters.countComparison();
+            order[k++] = keys.compare(scratch[i], order[j]) <= 0 ? scratch[i++] : order[j++];
+            counters.countSwap();
+        }
+
+        while (i < n1) {
+            order[k++] = scratch[i++];
+            counters.countSwap();
+        }
+    }
+
+    private static int[] identityPermutation(int length) {
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Runs {@link #sortArray} with a pooled scratch buffer, counting comparisons
+     * through a {@link CountingComparator} when instrumented.
+     */
+    private <T> void sortWithScratch(T[] array, Comparator<T> comparator, SortCounters counters) {
+        int scratchLength = scratchLength(array.length);
+        Object[] scratch = SortBuffers.acquire(scratchLength);
+
+        try {
+            if (!instrumented) {
+                sortArray(array, comparator, scratch, counters);
+                return;
+            }
+
+            CountingComparator<T> counting = comparesConcurrently()
+                    ? CountingComparator.concurrent(comparator)
+                    : CountingComparator.sequential(comparator);
+            try {
+                sortArray(array, counting, scratch, counters);
+            } finally {
+                counters.addComparisons(counting.getCount());
+            }
+        } finally {
+            SortBuffers.release(scratch, scratchLength);
+        }
+    }
+
+    private SortCounters newCounters() {
+        return instrumented ? new SortCounters() : SortCounters.NONE;
+    }
+
+    /**
+     * Counters for a key sort: the thread's observer, if any, receives every count too,
+     * even when this strategy is uninstrumented.
+     */
+    private SortCounters newKeyCounters() {
+        SortCounters observer = KEY_SORT_OBSERVER.get();
+
+        if (observer == null) {
+            return newCounters();
+        }
+
+        return instrumented ? new ObservedCounters(observer) : observer;
+    }
+
+    /**
+     * Runs {@code call} with {@code observer} receiving the comparisons and moves counted
+     * by every key entry point the call makes on this thread, on top of their own
+     * counters. An exception thrown by the observer ends the sort before the list is
+     * written back, leaving it unchanged.
+     */
+    static <R> R observeKeySorts(SortCounters observer, Supplier<R> call) {
+        SortCounters previous = KEY_SORT_OBSERVER.get();
+        KEY_SORT_OBSERVER.set(observer);
+
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                KEY_SORT_OBSERVER.remove();
+            } else {
+                KEY_SORT_OBSERVER.set(previous);
+            }
+        }
+    }
+
+    private long startClock() {
+        return instrumented ? System.currentTimeMillis() : 0;
+    }
+
+    private SortStatistics finish(int size, SortCounters counters, long startTime) {
+        if (!instrumented) {
+            return new SortStatistics(getAlgorithmName(), size, 0, 0, 0);
+        }
+
+        SortStatistics statistics = new SortStatistics(getAlgorithmName(), size,
+                counters.getComparisons(), counters.getSwaps(), System.currentTimeMillis() - startTime);
+        lastStatistics = statistics;
+        return statistics;
+    }
+
+    private static <T> void applyPermutation(List<T> list, int[] order) {
+        @SuppressWarnings("unchecked")
+        T[] elements = (T[]) list.toArray();
+        ListIterator<T> iterator = list.listIterator();
+        for (int index : order) {
+            iterator.next();
+            iterator.set(elements[index]);
+        }
+    }
+
+    /**
+     * Maps a double to a long whose signed order matches {@link Double#compare}
+     * (-0.0 before 0.0, NaN last).
+     */
+    static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static void validateKeyInputs(List<?> list, Object keyExtractor) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+    }
+
+    /**
+     * Sorts the whole array in place.
+     *
+     * @param scratch  working space of at least {@link #scratchLength} elements; contents are undefined
+     * @param counters counts of this call, to be updated by the algorithm
+     */
+    protected abstract <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters);
+
+    /**
+     * Whether {@link #sortArray} calls the comparator from several threads at once,
+     * so comparisons must be counted with a thread-safe counter.
+     */
+    protected boolean comparesConcurrently() {
+        return false;
+    }
+
+    /**
+     * Number of scratch slots {@link #sortArray} needs for an array of the given size.
+     */
+    protected int scratchLength(int size) {
+        return 0;
+    }
+
+    /**
+     * Label used for {@link #getSwapCount()} in {@link #toString()}.
+     */
+    protected String getSwapLabel() {
+        return "Swaps";
+    }
+
+    protected static <T> void writeBack(List<T> list, T[] array) {
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    protected static <T> void swap(T[] array, int i, int j, SortCounters counters) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        counters.countSwap();
+    }
+
+    static void swap(int[] order, int i, int j, SortCounters counters) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
+        counters.countSwap();
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    /**
+     * Returns the statistics of the most recently finished instrumented call, or {@code null} if there is none.
+     */
+    public SortStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    @Override
+    public long getComparisonCount() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.comparisons();
+    }
+
+    @Override
+    public long getSwapCount() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.swaps();
+    }
+
+    @Override
+    public long getExecutionTime() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.executionTime();
+    }
+
+    @Override
+    public void resetCounters() {
+        lastStatistics = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Comparisons: %d, %s: %d, Time: %dms]",
+                getAlgorithmName(), getComparisonCount(), getSwapLabel(), getSwapCount(), getExecutionTime());
+    }
+
+    /**
+     * Counts of one key sort, also forwarded to an observer.
+     */
+    private static final class ObservedCounters extends SortCounters {
+        private final SortCounters observer;
+
+        private ObservedCounters(SortCounters observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void countComparison() {
+            super.countComparison();
+            observer.countComparison();
+        }
+
+        @Override
+        public void addComparisons(long count) {
+            super.addComparisons(count);
+            observer.addComparisons(count);
+        }
+
+        @Override
+        public void countSwap() {
+            super.countSwap();
+            observer.countSwap();
+        }
+
+        @Override
+        public void addSwaps(long count) {
+            super.addSwaps(count);
+            observer.addSwaps(count);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Sort planner that picks the algorithm for each call from a sample of the input.
+ * <p>
+ * Before sorting, up to {@value #SAMPLE_SIZE} evenly spaced elements are inspected: <br/>
+ * - Size: the number of elements <br/>
+ * - Run structure: share of sampled neighbour pairs already in order (either direction) <br/>
+ * - Duplicate ratio: share of equal neighbours once the sample is sorted <br/>
+ * - Key type: comparator, numeric key or string key (from the entry point used)
+ * <p>
+ * Decision rules, first match wins: <br/>
+ * - Fewer than {@value #SMALL_INPUT_SIZE} elements: {@link TimSortStrategy} (a single binary insertion sort) <br/>
+ * - At least {@value #PRESORTED_RATIO} of the pairs in order: {@link TimSortStrategy} (O(n) on runs) <br/>
+ * - String keys: {@link MultiKeyQuickSortStrategy} (shared prefixes examined once) <br/>
+ * - At least {@value #DUPLICATE_RATIO} duplicates: {@link TimSortStrategy} (stable, equal keys keep input order) <br/>
+ * - At least {@value #PARALLEL_INPUT_SIZE} elements on a multi-core machine: {@link ParallelMergeSortStrategy} <br/>
+ * - Otherwise: {@link IntroSortStrategy}
+ * <p>
+ * The key entry points are stable whichever strategy is chosen. Through
+ * {@link #sort} the order of equal elements follows the chosen strategy; ties
+ * are common only on duplicate-heavy input, which is therefore sorted stably.
+ * <p>
+ * The chosen strategy and the reason are kept as the last {@link Plan}. Statistics
+ * report the chosen strategy's work plus the comparisons spent sampling. The
+ * planner keeps no per-call state, so one instance can serve concurrent callers.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class AdaptiveSortStrategy implements SortStrategy {
+    public static final int SAMPLE_SIZE = 256;
+    public static final int SMALL_INPUT_SIZE = 32;
+    public static final int PARALLEL_INPUT_SIZE = 4 * ParallelMergeSortStrategy.DEFAULT_SEQUENTIAL_CUTOFF;
+    public static final double PRESORTED_RATIO = 0.9;
+    public static final double DUPLICATE_RATIO = 0.5;
+
+    private final SortStrategy timSort;
+    private final SortStrategy introSort;
+    private final SortStrategy multiKeySort;
+    private final SortStrategy parallelMergeSort;
+    private final int availableProcessors;
+    private final boolean instrumented;
+
+    private volatile Decision lastDecision;
+
+    public AdaptiveSortStrategy() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public AdaptiveSortStrategy(int availableProcessors) {
+        this(availableProcessors, true);
+    }
+
+    /**
+     * @param instrumented whether the chosen strategies count comparisons and swaps and
+     *                     calls measure their time; plans are recorded either way
+     */
+    public AdaptiveSortStrategy(int availableProcessors, boolean instrumented) {
+        if (availableProcessors <= 0) {
+            throw new IllegalArgumentException("Available processors must be positive");
+        }
+
+        this.availableProcessors = availableProcessors;
+        this.instrumented = instrumented;
+        this.timSort = new TimSortStrategy(instrumented);
+        this.introSort = new IntroSortStrategy(instrumented);
+        this.multiKeySort = new MultiKeyQuickSortStrategy(instrumented);
+        this.parallelMergeSort = new ParallelMergeSortStrategy(ForkJoinPool.commonPool(),
+                ParallelMergeSortStrategy.DEFAULT_SEQUENTIAL_CUTOFF, instrumented);
+    }
+
+    /**
+     * Key type seen by the planner, given by the entry point that was called.
+     */
+    public enum KeyType {
+        COMPARATOR,
+        NUMERIC,
+        STRING
+    }
+
+    /**
+     * Decision made for one sort.
+     *
+     * @param sortedness      share of sampled neighbour pairs in order, in the better direction
+     * @param duplicateRatio  share of equal neighbours in the sorted sample
+     * @param sampleComparisons comparisons spent on sampling
+     */
+    public record Plan(SortStrategy strategy, String reason, int size, KeyType keyType,
+                       double sortedness, double duplicateRatio, long sampleComparisons) {
+        @Override
+        public String toString() {
+            return String.format("%s: %s (n=%d, %s keys, %.0f%% in order, %.0f%% duplicates)",
+                    strategy.getAlgorithmName(), reason, size, keyType.name().toLowerCase(),
+                    sortedness * 100, duplicateRatio * 100);
+        }
+    }
+
+    @Override
+    public <T> SortStatistics sort(List<T> list, Comparator<T> comparator) {
+        validate(list, comparator);
+        long startTime = instrumented ? System.currentTimeMillis() : 0;
+
+        Plan plan = plan(list, comparator, KeyType.COMPARATOR);
+        return finish(plan, plan.strategy().sort(list, comparator), startTime);
+    }
+
+    @Override
+    public <T> SortStatistics sortByDoubleKey(List<T> list, ToDoubleFunction<? super T> keyExtractor, boolean ascending) {
+        validate(list, keyExtractor);
+        long startTime = instrumented ? System.currentTimeMillis() : 0;
+
+        Plan plan = plan(list, Comparator.comparingDouble(keyExtractor), KeyType.NUMERIC);
+        return finish(plan, plan.strategy().sortByDoubleKey(list, keyExtractor, ascending), startTime);
+    }
+
+    @Override
+    public <T> SortStatistics sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor, boolean ascending) {
+        validate(list, keyExtractor);
+        long startTime = instrumented ? System.currentTimeMillis() : 0;
+
+        Plan plan = plan(list, Comparator.comparingInt(keyExtractor), KeyType.NUMERIC);
+        return finish(plan, plan.strategy().sortByIntKey(list, keyExtractor, ascending), startTime);
+    }
+
+    @Override
+    public <T> SortStatistics sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor, boolean ascending) {
+        validate(list, keyExtractor);
+        long startTime = instrumented ? System.currentTimeMillis() : 0;
+
+        Plan plan = plan(list, Comparator.comparingLong(keyExtractor), KeyType.NUMERIC);
+        return finish(plan, plan.strategy().sortByLongKey(list, keyExtractor, ascending), startTime);
+    }
+
+    @Override
+    public <T> SortStatistics sortByStringKey(List<T> list, Function<? super T, String> keyExtractor, boolean ascending) {
+        validate(list, keyExtractor);
+        long startTime = instrumented ? System.currentTimeMillis() : 0;
+
+        Plan plan = plan(list, Comparator.comparing(keyExtractor), KeyType.STRING);
+        return finish(plan, plan.strategy().sortByStringKey(list, keyExtractor, ascending), startTime);
+    }
+
+    private static void validate(List<?> list, Object keyExtractor) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor cannot be null");
+        }
+    }
+
+    private static void validate(List<?> list, Comparator<?> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+    }
+
+    private <T> Plan plan(List<T> list, Comparator<? super T> comparator, KeyType keyType) {
+        int size = list.size();
+
+        if (size < SMALL_INPUT_SIZE) {
+            return choose(timSort, "small input, one binary insertion pass", size, keyType, 0, 0, 0);
+        }
+
+        List<T> view = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        int sampleSize = Math.min(SAMPLE_SIZE, size);
+        long sampleComparisons = 0;
+
+        // Run structure: neighbouring pairs at evenly spaced positions
+        int pairs = Math.min(SAMPLE_SIZE, size - 1);
+        int ascendingPairs = 0;
+        int descendingPairs = 0;
+        for (int s = 0; s < pairs; s++) {
+            int i = (int) ((long) s * (size - 1) / pairs);
+            int comparison = comparator.compare(view.get(i), view.get(i + 1));
+            if (comparison <= 0) {
+                ascendingPairs++;
+            }
+            if (comparison >= 0) {
+                descendingPairs++;
+            }
+        }
+        sampleComparisons += pairs;
+        double sortedness = (double) Math.max(ascendingPairs, descendingPairs) / pairs;
+
+        // Duplicates: equal neighbours in the sorted sample
+        @SuppressWarnings("unchecked")
+        T[] sample = (T[]) new Object[sampleSize];
+        for (int s = 0; s < sampleSize; s++) {
+            sample[s] = view.get((int) ((long) s * size / sampleSize));
+        }
+
+        long[] sampleCount = {0};
+        Arrays.sort(sample, (a, b) -> {
+            sampleCount[0]++;
+            return comparator.compare(a, b);
+        });
+
+        int duplicates = 0;
+        for (int s = 1; s < sampleSize; s++) {
+            if (comparator.compare(sample[s - 1], sample[s]) == 0) {
+                duplicates++;
+            }
+        }
+        sampleComparisons += sampleCount[0] + sampleSize - 1;
+        double duplicateRatio = (double) duplicates / (sampleSize - 1);
+
+        if (sortedness >= PRESORTED_RATIO) {
+            return choose(timSort, "input is nearly sorted, natural runs are merged in O(n)",
+                    size, keyType, sortedness, duplicateRatio, sampleComparisons);
+        }
+
+        if (keyType == KeyType.STRING) {
+            return choose(multiKeySort, "string keys, shared prefixes are examined once",
+                    size, keyType, sortedness, duplicateRatio, sampleComparisons);
+        }
+
+        if (duplicateRatio >= DUPLICATE_RATIO) {
+            return choose(timSort, "many duplicate keys, a stable merge keeps equal keys in input order",
+                    size, keyType, sortedness, duplicateRatio, sampleComparisons);
+        }
+
+        if (size >= PARALLEL_INPUT_SIZE && availableProcessors > 1) {
+            return choose(parallelMergeSort, "large input, merge sort split across " + availableProcessors + " cores",
+                    size, keyType, sortedness, duplicateRatio, sampleComparisons);
+        }
+
+        return choose(introSort, "general case, O(n log n) worst case with little overhead",
+                size, keyType, sortedness, duplicateRatio, sampleComparisons);
+    }
+
+    private static Plan choose(SortStrategy strategy, String reason, int size, KeyType keyType,
+                               double sortedness, double duplicateRatio, long sampleComparisons) {
+        return new Plan(strategy, reason, size, keyType, sortedness, duplicateRatio, sampleComparisons);
+    }
+
+    private SortStatistics finish(Plan plan, SortStatistics chosen, long startTime) {
+        SortStatistics statistics = !instrumented
+                ? new SortStatistics(getAlgorithmName(), chosen.size(), 0, 0, 0)
+                : new SortStatistics(getAlgorithmName(), chosen.size(),
+                        plan.sampleComparisons() + chosen.comparisons(), chosen.swaps(),
+                        System.currentTimeMillis() - startTime);
+        lastDecision = new Decision(plan, statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the decision made by the last finished sort, or {@code null} before the first sort.
+     */
+    public Plan getLastPlan() {
+        Decision decision = lastDecision;
+        return decision == null ? null : decision.plan();
+    }
+
+    private record Decision(Plan plan, SortStatistics statistics) {
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Adaptive Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        Plan plan = getLastPlan();
+        return plan == null ? "O(n log n)" : plan.strategy().getTimeComplexity();
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        Plan plan = getLastPlan();
+        return plan == null ? "O(n)" : plan.strategy().getSpaceComplexity();
+    }
+
+    @Override
+    public long getComparisonCount() {
+        Decision decision = lastDecision;
+        return decision == null ? 0 : decision.statistics().comparisons();
+    }
+
+    @Override
+    public long getSwapCount() {
+        Decision decision = lastDecision;
+        return decision == null ? 0 : decision.statistics().swaps();
+    }
+
+    @Override
+    public long getExecutionTime() {
+        Decision decision = lastDecision;
+        return decision == null ? 0 : decision.statistics().executionTime();
+    }
+
+    @Override
+    public void resetCounters() {
+        lastDecision = null;
+    }
+
+    @Override
+    public String toString() {
+        Decision decision = lastDecision;
+        if (decision == null) {
+            return getAlgorithmName();
+        }
+
+        SortStatistics statistics = decision.statistics();
+        return String.format("%s -> %s [Comparisons: %d, Swaps/Moves: %d, Time: %dms]%n  Chose %s",
+                getAlgorithmName(), decision.plan().strategy().getAlgorithmName(),
+                statistics.comparisons(), statistics.swaps(), statistics.executionTime(), decision.plan());
+    }
+}
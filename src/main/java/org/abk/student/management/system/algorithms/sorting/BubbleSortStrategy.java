@@ -1,7 +1,6 @@
 package org.abk.student.management.system.algorithms.sorting;
 
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * Bubble Sort implementation using the Strategy pattern.
@@ -33,103 +32,82 @@ import java.util.List;
  * @author Soft Development ABK
  * @version 1.0
  */
-public class BubbleSortStrategy implements SortStrategy {
-    private long comparisonCount;
-    private long swapCount;
-    private long executionTime;
-
+public class BubbleSortStrategy extends AbstractSortStrategy {
     public BubbleSortStrategy() {
-        resetCounters();
+        super();
     }
 
-    public <T> void sort(List<T> list, Comparator<T> comparator) {
-        if (list == null) {
-            throw new IllegalArgumentException("List cannot be null");
-        }
-
-        if (comparator == null) {
-            throw new IllegalArgumentException("Comparator cannot be null");
-        }
-
-        resetCounters();
-        long startTime = System.currentTimeMillis();
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public BubbleSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
 
-        int n = list.size();
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        int n = array.length;
         boolean swapped;
 
-        // Outer loop: passes through the list
+        // Outer loop: passes through the array
         for (int i = 0; i < n - 1; i++) {
             swapped = false;
 
             // Inner loop: compare adjacent elements
             for (int j = 0; j < n - i - 1; j++) {
-                comparisonCount++;
-
                 // Compare adjacent elements
-                if (comparator.compare(list.get(j), list.get(j + 1)) > 0) {
+                if (comparator.compare(array[j], array[j + 1]) > 0) {
                     // Swap if they are in wrong order
-                    swap(list, j, j + 1);
-                    swapCount++;
+                    swap(array, j, j + 1, counters);
                     swapped = true;
                 }
             }
 
-            // Optimization: if no swaps occurred, list is sorted
+            // Optimization: if no swaps occurred, array is sorted
             if (!swapped) {
                 break;
             }
         }
-
-        // Calculate execution time
-        executionTime = System.currentTimeMillis() - startTime;
-    }
-
-    private <T> void swap(List<T> list, int i, int j) {
-        T temp = list.get(i);
-        list.set(i, list.get(j));
-        list.set(j, temp);
     }
 
     @Override
-    public String getAlgorithmName() {
-        return "Bubble Sort";
-    }
+    void sortIndices(int[] order, KeyOrder keys, SortCounters counters) {
+        int n = order.length;
 
-    @Override
-    public String getTimeComplexity() {
-        return "O(n²) avg/worst, O(n) best";
-    }
+        for (int i = 0; i < n - 1; i++) {
+            boolean swapped = false;
 
-    @Override
-    public String getSpaceComplexity() {
-        return "O(1)";
-    }
+            for (int j = 0; j < n - i - 1; j++) {
+                counters.countComparison();
+                if (keys.compare(order[j], order[j + 1]) > 0) {
+                    swap(order, j, j + 1, counters);
+                    swapped = true;
+                }
+            }
 
-    @Override
-    public long getComparisonCount() {
-        return comparisonCount;
+            if (!swapped) {
+                break;
+            }
+        }
     }
 
     @Override
-    public long getSwapCount() {
-        return swapCount;
+    public long estimateComparisons(int size) {
+        return (long) size * (size - 1) / 2;
     }
 
     @Override
-    public long getExecutionTime() {
-        return executionTime;
+    public String getAlgorithmName() {
+        return "Bubble Sort";
     }
 
     @Override
-    public void resetCounters() {
-        this.comparisonCount = 0;
-        this.swapCount = 0;
-        this.executionTime = 0;
+    public String getTimeComplexity() {
+        return "O(n²) avg/worst, O(n) best";
     }
 
     @Override
-    public String toString() {
-        return String.format("%s [Comparisons: %d, Swaps: %d, Time: %dms]",
-                getAlgorithmName(), comparisonCount, swapCount, executionTime);
+    public String getSpaceComplexity() {
+        return "O(1)";
     }
 }
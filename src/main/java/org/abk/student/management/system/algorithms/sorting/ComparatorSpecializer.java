@@ -0,0 +1,158 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generates one {@link SpecializedSortKernel} hidden class per comparator instance
+ * and counting mode.
+ * <p>
+ * A comparator is specialised once the same instance has been used for
+ * {@value #SPECIALIZE_AFTER_USES} sorts, so long-lived comparators (such as those held
+ * by {@code StudentSortCriteria}) get their own kernel while comparators created for
+ * a single call (lambdas capturing a key array) never cost a class definition.
+ * <p>
+ * Comparators seen once wait, weakly referenced, in an LRU table of at most
+ * {@value #MAX_CANDIDATES} candidates; specialised ones live in a separate LRU table of
+ * at most {@value #MAX_SPECIALIZED} kernels, so a stream of one-shot comparators cannot
+ * evict them. Hidden classes are defined without {@code ClassOption.STRONG}, so a kernel
+ * class is unloaded once its entry is evicted and no sort is using it.
+ * <p>
+ * Counting is part of the specialisation: the same comparator gets a counting
+ * kernel for instrumented sorts and a separate non-counting kernel for
+ * uninstrumented ones, which carries no bookkeeping in its sort loop.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class ComparatorSpecializer {
+    static final int SPECIALIZE_AFTER_USES = 2;
+    private static final int MAX_CANDIDATES = 64;
+    private static final int MAX_SPECIALIZED = 32;
+    private static final String TEMPLATE_RESOURCE = SpecializedSortKernel.class.getSimpleName() + ".class";
+
+    static final ComparatorSpecializer SHARED = new ComparatorSpecializer();
+
+    private final byte[] template = loadTemplate();
+    private final Map<IdentityKey, Integer> candidates = lruMap(MAX_CANDIDATES);
+    private final Map<IdentityKey, MethodHandle> specialized = lruMap(MAX_SPECIALIZED);
+    private long specializationCount;
+
+    private ComparatorSpecializer() {
+    }
+
+    /**
+     * Returns a fresh kernel for the comparator, or {@code null} if it is not (yet) specialised.
+     *
+     * @param counting whether the kernel counts comparisons and swaps
+     */
+    SortKernel kernelFor(Comparator<?> comparator, boolean counting) {
+        MethodHandle constructor = constructorFor(comparator, counting);
+        if (constructor == null) {
+            return null;
+        }
+
+        try {
+            return (SortKernel) constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot instantiate specialized sort kernel", e);
+        }
+    }
+
+    private synchronized MethodHandle constructorFor(Comparator<?> comparator, boolean counting) {
+        if (template == null) {
+            return null;
+        }
+
+        IdentityKey key = new IdentityKey(comparator, counting);
+        MethodHandle constructor = specialized.get(key);
+        if (constructor != null) {
+            return constructor;
+        }
+
+        int uses = candidates.merge(key, 1, Integer::sum);
+        if (uses < SPECIALIZE_AFTER_USES) {
+            return null;
+        }
+
+        candidates.remove(key);
+        constructor = defineKernel(comparator, counting);
+        if (constructor != null) {
+            specialized.put(key, constructor);
+        }
+        return constructor;
+    }
+
+    private static <V> Map<IdentityKey, V> lruMap(int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdentityKey, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private MethodHandle defineKernel(Comparator<?> comparator, boolean counting) {
+        try {
+            MethodHandles.Lookup kernel = MethodHandles.lookup().defineHiddenClassWithClassData(
+                    template, SpecializedSortKernel.classData(comparator, counting), true);
+            specializationCount++;
+            return kernel.findConstructor(kernel.lookupClass(), MethodType.methodType(void.class));
+        } catch (IllegalAccessException | NoSuchMethodException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static byte[] loadTemplate() {
+        try (InputStream in = SpecializedSortKernel.class.getResourceAsStream(TEMPLATE_RESOURCE)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    synchronized long getSpecializationCount() {
+        return specializationCount;
+    }
+
+    /**
+     * Weak identity key: equal only to a key for the very same, still reachable comparator
+     * in the same counting mode.
+     */
+    private static final class IdentityKey extends WeakReference<Comparator<?>> {
+        private final boolean counting;
+        private final int hash;
+
+        IdentityKey(Comparator<?> comparator, boolean counting) {
+            super(comparator);
+            this.counting = counting;
+            this.hash = 31 * System.identityHashCode(comparator) + Boolean.hashCode(counting);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof IdentityKey other)) {
+                return false;
+            }
+
+            Comparator<?> referent = get();
+            return referent != null && referent == other.get() && counting == other.counting;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
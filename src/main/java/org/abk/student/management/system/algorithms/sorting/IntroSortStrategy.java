@@ -0,0 +1,307 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Introsort (introspective sort) implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * Introsort is a Quick Sort that watches its own recursion depth. Each range is
+ * partitioned around a median-of-three pivot with a three-way (Dutch national flag)
+ * partition, so runs of equal keys are finished in a single pass. Small ranges are
+ * handed to Insertion Sort, and when the depth limit (2 * log₂ n) is exhausted the
+ * remaining range is sorted with Heap Sort.
+ * <p>
+ * Characteristics: <br/>
+ * - Hybrid of Quick Sort, Heap Sort and Insertion Sort <br/>
+ * - Not stable (may change relative order of equal elements); the key entry points
+ * are stable, as {@link KeyOrder} breaks ties by input position <br/>
+ * - In-place on the array copy of the list <br/>
+ * - Only the smaller partition is recursed into; the larger one is handled by the loop
+ * <p>
+ * Time Complexity: <br/>
+ * - Best Case: O(n) - all keys equal (single three-way partition) <br/>
+ * - Average Case: O(n log n) <br/>
+ * - Worst Case: O(n log n) - heap sort fallback
+ * <p>
+ * Space Complexity: O(log n) - recursion depth is bounded by the smaller partition
+ * <p>
+ * Use Cases: <br/>
+ * - General-purpose sorting when stability is not required <br/>
+ * - Duplicate-heavy data such as marks <br/>
+ * - Inputs that may be adversarial for plain Quick Sort
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class IntroSortStrategy extends AbstractSortStrategy {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    public IntroSortStrategy() {
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public IntroSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
+
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(array.length));
+        introSort(array, 0, array.length - 1, depthLimit, comparator, counters);
+    }
+
+    private <T> void introSort(T[] array, int low, int high, int depthLimit, Comparator<T> comparator,
+                               SortCounters counters) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high, comparator, counters);
+                return;
+            }
+            depthLimit--;
+
+            T pivot = medianOfThree(array, low, low + (high - low) / 2, high, comparator, counters);
+
+            // Dutch national flag: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            while (i <= gt) {
+                int comparison = comparator.compare(array[i], pivot);
+
+                if (comparison < 0) {
+                    swap(array, lt++, i++, counters);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--, counters);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse into the smaller side, loop on the larger one
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depthLimit, comparator, counters);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depthLimit, comparator, counters);
+                high = lt - 1;
+            }
+        }
+
+        insertionSort(array, low, high, comparator, counters);
+    }
+
+    private <T> T medianOfThree(T[] array, int a, int b, int c, Comparator<T> comparator, SortCounters counters) {
+        if (comparator.compare(array[b], array[a]) < 0) {
+            swap(array, a, b, counters);
+        }
+
+        if (comparator.compare(array[c], array[b]) < 0) {
+            swap(array, b, c, counters);
+
+            if (comparator.compare(array[b], array[a]) < 0) {
+                swap(array, a, b, counters);
+            }
+        }
+
+        return array[b];
+    }
+
+    private <T> void insertionSort(T[] array, int low, int high, Comparator<T> comparator, SortCounters counters) {
+        for (int i = low + 1; i <= high; i++) {
+            T current = array[i];
+            int j = i - 1;
+
+            while (j >= low) {
+                if (comparator.compare(array[j], current) <= 0) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                counters.countSwap();
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    private <T> void heapSort(T[] array, int low, int high, Comparator<T> comparator, SortCounters counters) {
+        int n = high - low + 1;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n, comparator, counters);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end, counters);
+            siftDown(array, low, 0, end, comparator, counters);
+        }
+    }
+
+    private <T> void siftDown(T[] array, int offset, int root, int size, Comparator<T> comparator,
+                              SortCounters counters) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                return;
+            }
+
+            if (child + 1 < size) {
+                if (comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                    child++;
+                }
+            }
+
+            if (comparator.compare(array[offset + root], array[offset + child]) >= 0) {
+                return;
+            }
+
+            swap(array, offset + root, offset + child, counters);
+            root = child;
+        }
+    }
+
+    @Override
+    void sortIndices(int[] order, KeyOrder keys, SortCounters counters) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(order.length));
+        introSortIndices(order, 0, order.length - 1, depthLimit, keys, counters);
+    }
+
+    /**
+     * Primitive version of {@link #introSort} over a permutation of element indices.
+     */
+    private void introSortIndices(int[] order, int low, int high, int depthLimit, KeyOrder keys,
+                                  SortCounters counters) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSortIndices(order, low, high, keys, counters);
+                return;
+            }
+            depthLimit--;
+
+            int pivot = medianOfThreeIndices(order, low, low + (high - low) / 2, high, keys, counters);
+
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            while (i <= gt) {
+                counters.countComparison();
+                int comparison = keys.compare(order[i], pivot);
+
+                if (comparison < 0) {
+                    swap(order, lt++, i++, counters);
+                } else if (comparison > 0) {
+                    swap(order, i, gt--, counters);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSortIndices(order, low, lt - 1, depthLimit, keys, counters);
+                low = gt + 1;
+            } else {
+                introSortIndices(order, gt + 1, high, depthLimit, keys, counters);
+                high = lt - 1;
+            }
+        }
+
+        insertionSortIndices(order, low, high, keys, counters);
+    }
+
+    private int medianOfThreeIndices(int[] order, int a, int b, int c, KeyOrder keys, SortCounters counters) {
+        counters.countComparison();
+        if (keys.compare(order[b], order[a]) < 0) {
+            swap(order, a, b, counters);
+        }
+
+        counters.countComparison();
+        if (keys.compare(order[c], order[b]) < 0) {
+            swap(order, b, c, counters);
+
+            counters.countComparison();
+            if (keys.compare(order[b], order[a]) < 0) {
+                swap(order, a, b, counters);
+            }
+        }
+
+        return order[b];
+    }
+
+    private void insertionSortIndices(int[] order, int low, int high, KeyOrder keys, SortCounters counters) {
+        for (int i = low + 1; i <= high; i++) {
+            int current = order[i];
+            int j = i - 1;
+
+            while (j >= low) {
+                counters.countComparison();
+                if (keys.compare(order[j], current) <= 0) {
+                    break;
+                }
+                order[j + 1] = order[j];
+                counters.countSwap();
+                j--;
+            }
+
+            order[j + 1] = current;
+        }
+    }
+
+    private void heapSortIndices(int[] order, int low, int high, KeyOrder keys, SortCounters counters) {
+        int n = high - low + 1;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownIndices(order, low, i, n, keys, counters);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(order, low, low + end, counters);
+            siftDownIndices(order, low, 0, end, keys, counters);
+        }
+    }
+
+    private void siftDownIndices(int[] order, int offset, int root, int size, KeyOrder keys,
+                                 SortCounters counters) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                return;
+            }
+
+            if (child + 1 < size) {
+                counters.countComparison();
+                if (keys.compare(order[offset + child], order[offset + child + 1]) < 0) {
+                    child++;
+                }
+            }
+
+            counters.countComparison();
+            if (keys.compare(order[offset + root], order[offset + child]) >= 0) {
+                return;
+            }
+
+            swap(order, offset + root, offset + child, counters);
+            root = child;
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Intro Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) all cases";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+}
@@ -0,0 +1,76 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * Order of element indices by keys extracted into an array, for the key-sort entry points.
+ * <p>
+ * Algorithms sort a primitive {@code int[]} permutation and compare two indices by
+ * reading their keys straight from the array: no boxing, no {@code Comparator}, and
+ * only two implementations, so every compare call site stays bimorphic and the JIT
+ * inlines the key comparison into the sort loop. <br/>
+ * - {@code long} keys: int and long keys as they are, double keys mapped to longs
+ * that order like {@link Double#compare}. A descending sort complements the keys
+ * once up front, which reverses their order exactly, so the comparison itself is
+ * always ascending <br/>
+ * - {@code String} keys: {@link String#compareTo}, in either direction
+ * <p>
+ * Equal keys are ordered by input position, so the order is total and every
+ * algorithm sorting the permutation produces the stable order, the same one a
+ * stable sort with the equivalent {@code Comparator} gives.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+abstract class KeyOrder {
+    /**
+     * Orders by {@code keys}, which are complemented in place when {@code ascending} is {@code false}.
+     */
+    static KeyOrder of(long[] keys, boolean ascending) {
+        if (!ascending) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = ~keys[i];
+            }
+        }
+
+        return new LongKeys(keys);
+    }
+
+    static KeyOrder of(String[] keys, boolean ascending) {
+        return new StringKeys(keys, ascending);
+    }
+
+    /**
+     * Compares the keys of the elements at input positions {@code a} and {@code b},
+     * then the positions themselves; only an index compares equal to itself.
+     */
+    abstract int compare(int a, int b);
+
+    private static final class LongKeys extends KeyOrder {
+        private final long[] keys;
+
+        private LongKeys(long[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        int compare(int a, int b) {
+            int comparison = Long.compare(keys[a], keys[b]);
+            return comparison != 0 ? comparison : Integer.compare(a, b);
+        }
+    }
+
+    private static final class StringKeys extends KeyOrder {
+        private final String[] keys;
+        private final boolean ascending;
+
+        private StringKeys(String[] keys, boolean ascending) {
+            this.keys = keys;
+            this.ascending = ascending;
+        }
+
+        @Override
+        int compare(int a, int b) {
+            int comparison = ascending ? keys[a].compareTo(keys[b]) : keys[b].compareTo(keys[a]);
+            return comparison != 0 ? comparison : Integer.compare(a, b);
+        }
+    }
+}
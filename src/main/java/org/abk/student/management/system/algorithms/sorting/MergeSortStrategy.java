@@ -1,8 +1,6 @@
 package org.abk.student.management.system.algorithms.sorting;
 
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * Merge Sort implementation using the Strategy pattern.
@@ -40,91 +38,74 @@ import java.util.List;
  * @author Soft Development ABK
  * @version 1.0
  */
-public class MergeSortStrategy implements SortStrategy {
-    private long comparisonCount;
-    private long swapCount;
-    private long executionTime;
-
+public class MergeSortStrategy extends AbstractSortStrategy {
     public MergeSortStrategy() {
-        resetCounters();
+        super();
     }
 
-    @Override
-    public <T> void sort(List<T> list, Comparator<T> comparator) {
-        if (list == null) {
-            throw new IllegalArgumentException("List cannot be null");
-        }
-
-        if (comparator == null) {
-            throw new IllegalArgumentException("Comparator cannot be null");
-        }
-
-        resetCounters();
-        long startTime = System.currentTimeMillis();
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public MergeSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
 
-        if (list.size() > 1) {
-            mergeSort(list, 0, list.size() - 1, comparator);
-        }
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        mergeSort(array, 0, array.length - 1, comparator, scratch, counters);
+    }
 
-        executionTime = System.currentTimeMillis() - startTime;
+    @Override
+    protected int scratchLength(int size) {
+        return (size + 1) / 2;
     }
 
-    private <T> void mergeSort(List<T> list, int left, int right, Comparator<T> comparator) {
+    private <T> void mergeSort(T[] array, int left, int right, Comparator<T> comparator, Object[] scratch,
+                               SortCounters counters) {
         if (left < right) {
             int mid = left + (right - left) / 2;
 
-            mergeSort(list, left, mid, comparator);
-            mergeSort(list, mid + 1, right, comparator);
+            mergeSort(array, left, mid, comparator, scratch, counters);
+            mergeSort(array, mid + 1, right, comparator, scratch, counters);
 
-            merge(list, left, mid, right, comparator);
+            merge(array, left, mid, right, comparator, scratch, counters);
         }
     }
 
-    private <T> void merge(List<T> list, int left, int mid, int right, Comparator<T> comparator) {
+    /**
+     * Merges {@code array[left, mid]} and {@code array[mid + 1, right]}. Only the left run is
+     * copied to the scratch buffer; the right run is read in place, since the write position
+     * can never overtake it.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void merge(T[] array, int left, int mid, int right, Comparator<T> comparator, Object[] scratch,
+                           SortCounters counters) {
         int n1 = mid - left + 1;
-        int n2 = right - mid;
-
-        List<T> leftArray = new ArrayList<>(n1);
-        List<T> rightArray = new ArrayList<>(n2);
-
-        for (int i = 0; i < n1; i++) {
-            leftArray.add(list.get(left + i));
-        }
-        for (int j = 0; j < n2; j++) {
-            rightArray.add(list.get(mid + 1 + j));
-        }
+        System.arraycopy(array, left, scratch, 0, n1);
 
         int i = 0;
-        int j = 0;
+        int j = mid + 1;
         int k = left;
 
-        while (i < n1 && j < n2) {
-            comparisonCount++;
-
-            if (comparator.compare(leftArray.get(i), rightArray.get(j)) <= 0) {
-                list.set(k, leftArray.get(i));
+        while (i < n1 && j <= right) {
+            if (comparator.compare((T) scratch[i], array[j]) <= 0) {
+                array[k] = (T) scratch[i];
                 i++;
             } else {
-                list.set(k, rightArray.get(j));
+                array[k] = array[j];
                 j++;
             }
-            swapCount++;
+            counters.countSwap();
             k++;
         }
 
         while (i < n1) {
-            list.set(k, leftArray.get(i));
-            swapCount++;
+            array[k] = (T) scratch[i];
+            counters.countSwap();
             i++;
             k++;
         }
-
-        while (j < n2) {
-            list.set(k, rightArray.get(j));
-            swapCount++;
-            j++;
-            k++;
-        }
+        // Remaining right-run elements are already in their final positions
     }
 
     @Override
@@ -143,30 +124,7 @@ public class MergeSortStrategy implements SortStrategy {
     }
 
     @Override
-    public long getComparisonCount() {
-        return comparisonCount;
-    }
-
-    @Override
-    public long getSwapCount() {
-        return swapCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-
-    @Override
-    public void resetCounters() {
-        this.comparisonCount = 0;
-        this.swapCount = 0;
-        this.executionTime = 0;
-    }
-
-    @Override
-    public String toString() {
-        return String.format("%s [Comparisons: %d, Moves: %d, Time: %dms]",
-                getAlgorithmName(), comparisonCount, swapCount, executionTime);
+    protected String getSwapLabel() {
+        return "Moves";
     }
 }
@@ -0,0 +1,197 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Decorator that makes any {@link SortStrategy} observable and cancellable.
+ * <p>
+ * Every comparison goes through a wrapping comparator that counts it and checks a
+ * cancellation flag, so another thread can read the progress of a running sort
+ * and stop it by throwing {@link SortCancelledException} out of the algorithm.
+ * <p>
+ * The primitive-key and string-key entry points are forwarded to the wrapped strategy
+ * unchanged, so its own key algorithm runs (primitive permutation sort, multikey
+ * quicksort, the planner's key-type rules). They compare through no comparator;
+ * their comparisons reach this decorator through the {@link SortCounters} observer
+ * of {@link AbstractSortStrategy#observeKeySorts}, which counts them and checks the
+ * cancellation flag. A wrapped strategy not built on {@link AbstractSortStrategy}
+ * reports no progress for key sorts and cannot be cancelled during them.
+ * <p>
+ * Counters, names and complexities are those of the wrapped strategy.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class MonitoredSortStrategy implements SortStrategy {
+    private final SortStrategy delegate;
+    private final LongAdder completedComparisons = new LongAdder();
+    private volatile boolean cancelled;
+    private volatile int size;
+
+    public MonitoredSortStrategy(SortStrategy delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Sort strategy cannot be null");
+        }
+
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> SortStatistics sort(List<T> list, Comparator<T> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+
+        completedComparisons.reset();
+        size = list.size();
+
+        return delegate.sort(list, (a, b) -> {
+            checkCancelled();
+            completedComparisons.increment();
+            return comparator.compare(a, b);
+        });
+    }
+
+    @Override
+    public <T> SortStatistics sortByDoubleKey(List<T> list, ToDoubleFunction<? super T> keyExtractor, boolean ascending) {
+        return observed(list, () -> delegate.sortByDoubleKey(list, keyExtractor, ascending));
+    }
+
+    @Override
+    public <T> SortStatistics sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor, boolean ascending) {
+        return observed(list, () -> delegate.sortByIntKey(list, keyExtractor, ascending));
+    }
+
+    @Override
+    public <T> SortStatistics sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor, boolean ascending) {
+        return observed(list, () -> delegate.sortByLongKey(list, keyExtractor, ascending));
+    }
+
+    @Override
+    public <T> SortStatistics sortByStringKey(List<T> list, Function<? super T, String> keyExtractor, boolean ascending) {
+        return observed(list, () -> delegate.sortByStringKey(list, keyExtractor, ascending));
+    }
+
+    private SortStatistics observed(List<?> list, Supplier<SortStatistics> keySort) {
+        completedComparisons.reset();
+        size = list == null ? 0 : list.size();
+
+        return AbstractSortStrategy.observeKeySorts(new Progress(), keySort);
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new SortCancelledException(delegate.getAlgorithmName(), completedComparisons.sum());
+        }
+    }
+
+    /**
+     * Makes the running (or next) sort throw {@link SortCancelledException} at its next comparison.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getCompletedComparisons() {
+        return completedComparisons.sum();
+    }
+
+    public long getEstimatedComparisons() {
+        return delegate.estimateComparisons(size);
+    }
+
+    public SortStrategy getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public long estimateComparisons(int size) {
+        return delegate.estimateComparisons(size);
+    }
+
+    @Override
+    public boolean isInstrumented() {
+        return delegate.isInstrumented();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return delegate.getAlgorithmName();
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return delegate.getTimeComplexity();
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return delegate.getSpaceComplexity();
+    }
+
+    @Override
+    public long getComparisonCount() {
+        return delegate.getComparisonCount();
+    }
+
+    @Override
+    public long getSwapCount() {
+        return delegate.getSwapCount();
+    }
+
+    @Override
+    public long getExecutionTime() {
+        return delegate.getExecutionTime();
+    }
+
+    @Override
+    public void resetCounters() {
+        delegate.resetCounters();
+        completedComparisons.reset();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Receives the comparisons of a forwarded key sort; moves are not tracked.
+     */
+    private final class Progress extends SortCounters {
+        @Override
+        public void countComparison() {
+            checkCancelled();
+            completedComparisons.increment();
+        }
+
+        @Override
+        public void addComparisons(long count) {
+            checkCancelled();
+            completedComparisons.add(count);
+        }
+
+        @Override
+        public void countSwap() {
+        }
+
+        @Override
+        public void addSwaps(long count) {
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Multikey Quick Sort (three-way radix quicksort) specialised for string keys.
+ * <p>
+ * Algorithm Description: <br/>
+ * Instead of comparing whole strings, the range is partitioned on the character
+ * at the current depth d around a median-of-three pivot character: keys whose
+ * d-th character is smaller, equal, or larger. The smaller and larger parts are
+ * sorted again at depth d; only the equal part moves on to depth d + 1. A shared
+ * prefix such as "S0001" is therefore examined about once per key rather than once
+ * per comparison. Ranges below {@value #INSERTION_SORT_THRESHOLD} keys are finished
+ * by Insertion Sort comparing suffixes from depth d.
+ * <p>
+ * Characteristics: <br/>
+ * - Used by {@link #sortByStringKey}; comparator and numeric-key sorts fall back
+ * to {@link IntroSortStrategy} <br/>
+ * - Stable for string keys: keys that are fully equal are put back in input order <br/>
+ * - Same order as {@link String#compareTo} (UTF-16 code units, prefix first) <br/>
+ * - Comparisons count single character examinations, not string comparisons
+ * <p>
+ * Time Complexity: <br/>
+ * - Average Case: O(n log n + D) character examinations, D = total distinguishing prefix length <br/>
+ * - Worst Case: O(n * L) for keys of length L
+ * <p>
+ * Space Complexity: O(n) index array plus O(log n) recursion
+ * <p>
+ * Use Cases: <br/>
+ * - Sorting by ID or name, especially with long shared prefixes
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class MultiKeyQuickSortStrategy extends IntroSortStrategy {
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+    private static final int END_OF_KEY = -1;
+
+    public MultiKeyQuickSortStrategy() {
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public MultiKeyQuickSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
+
+    @Override
+    protected void sortStringKeys(String[] keys, int[] order, boolean ascending, SortCounters counters) {
+        int n = order.length;
+
+        // tiedWithNext[p]: the keys at positions p and p + 1 are equal (only needed to reverse)
+        boolean[] tiedWithNext = ascending ? null : new boolean[n];
+        multiKeySort(keys, order, tiedWithNext, 0, n - 1, 0, counters);
+
+        if (ascending) {
+            return;
+        }
+
+        // Reverse the groups of equal keys, keeping each group in input order
+        int[] sorted = order.clone();
+        int target = 0;
+        int groupEnd = n;
+        while (groupEnd > 0) {
+            int groupStart = groupEnd - 1;
+            while (groupStart > 0 && tiedWithNext[groupStart - 1]) {
+                groupStart--;
+            }
+
+            for (int p = groupStart; p < groupEnd; p++) {
+                order[target++] = sorted[p];
+            }
+            groupEnd = groupStart;
+        }
+    }
+
+    private void multiKeySort(String[] keys, int[] indices, boolean[] tiedWithNext, int low, int high, int depth,
+                              SortCounters counters) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            int pivot = medianOfThree(keys, indices, low, low + (high - low) / 2, high, depth, counters);
+
+            // [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot at this depth
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            while (i <= gt) {
+                counters.countComparison();
+                int character = charAt(keys[indices[i]], depth);
+
+                if (character < pivot) {
+                    swap(indices, lt++, i++, counters);
+                } else if (character > pivot) {
+                    swap(indices, i, gt--, counters);
+                } else {
+                    i++;
+                }
+            }
+
+            multiKeySort(keys, indices, tiedWithNext, low, lt - 1, depth, counters);
+            multiKeySort(keys, indices, tiedWithNext, gt + 1, high, depth, counters);
+
+            if (pivot == END_OF_KEY) {
+                // Every key in the middle is complete and equal: restore input order
+                Arrays.sort(indices, lt, gt + 1);
+                markTies(tiedWithNext, lt, gt);
+                return;
+            }
+
+            // Only the middle part needs the next character
+            low = lt;
+            high = gt;
+            depth++;
+        }
+
+        insertionSort(keys, indices, tiedWithNext, low, high, depth, counters);
+    }
+
+    private void insertionSort(String[] keys, int[] indices, boolean[] tiedWithNext, int low, int high, int depth,
+                               SortCounters counters) {
+        for (int i = low + 1; i <= high; i++) {
+            int current = indices[i];
+            int j = i - 1;
+
+            while (j >= low) {
+                int comparison = compareFrom(keys[indices[j]], keys[current], depth, counters);
+                if (comparison < 0 || (comparison == 0 && indices[j] < current)) {
+                    break;
+                }
+
+                indices[j + 1] = indices[j];
+                counters.countSwap();
+                j--;
+            }
+
+            indices[j + 1] = current;
+        }
+
+        if (tiedWithNext != null) {
+            for (int p = low; p < high; p++) {
+                tiedWithNext[p] = keys[indices[p]].equals(keys[indices[p + 1]]);
+            }
+        }
+    }
+
+    /**
+     * Compares two keys known to be equal before {@code depth}.
+     */
+    private static int compareFrom(String a, String b, int depth, SortCounters counters) {
+        int limit = Math.min(a.length(), b.length());
+
+        for (int d = depth; d < limit; d++) {
+            counters.countComparison();
+            char ca = a.charAt(d);
+            char cb = b.charAt(d);
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+
+        return a.length() - b.length();
+    }
+
+    private static int medianOfThree(String[] keys, int[] indices, int i, int j, int k, int depth,
+                                     SortCounters counters) {
+        int a = charAt(keys[indices[i]], depth);
+        int b = charAt(keys[indices[j]], depth);
+        int c = charAt(keys[indices[k]], depth);
+
+        counters.addComparisons(3);
+        if (a < b) {
+            return b < c ? b : Math.max(a, c);
+        }
+        return a < c ? a : Math.max(b, c);
+    }
+
+    private static int charAt(String key, int depth) {
+        return depth < key.length() ? key.charAt(depth) : END_OF_KEY;
+    }
+
+    private static void markTies(boolean[] tiedWithNext, int low, int high) {
+        if (tiedWithNext != null) {
+            Arrays.fill(tiedWithNext, low, high, true);
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Multikey Quick Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n + D) character comparisons";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+}
@@ -0,0 +1,342 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel Merge Sort implementation using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * Parallel Merge Sort splits the input into halves that are sorted concurrently
+ * by a {@link ForkJoinPool}. Once both halves are sorted, they are merged by a
+ * parallel merge: the larger run is split at its middle element, the matching
+ * split point is binary searched in the other run, and the two independent
+ * sub-merges are forked again. Ranges below the sequential cutoff are sorted
+ * and merged on a single thread.
+ * <p>
+ * Characteristics: <br/>
+ * - Divide and conquer approach on all available cores <br/>
+ * - Stable sort (maintains relative order of equal elements) <br/>
+ * - Not in-place (one pooled auxiliary buffer of size n shared by all tasks) <br/>
+ * - Comparisons (when instrumented) and moves are aggregated across tasks with {@link LongAdder}
+ * <p>
+ * Time Complexity: <br/>
+ * - Work: O(n log n) all cases <br/>
+ * - Span: O(log³ n) with the parallel merge
+ * <p>
+ * Space Complexity: O(n) - a single auxiliary buffer shared by all tasks
+ * <p>
+ * Use Cases: <br/>
+ * - Very large datasets on multi-core machines <br/>
+ * - When stable sorting is required
+ * <p>
+ * The comparator is called from several threads at once, so it must be
+ * stateless (all comparators built with {@link Comparator#comparing} are).
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ParallelMergeSortStrategy extends AbstractSortStrategy {
+    public static final int DEFAULT_SEQUENTIAL_CUTOFF = 8192;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final ForkJoinPool pool;
+    private final int sequentialCutoff;
+
+    public ParallelMergeSortStrategy() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_CUTOFF);
+    }
+
+    public ParallelMergeSortStrategy(int sequentialCutoff) {
+        this(ForkJoinPool.commonPool(), sequentialCutoff);
+    }
+
+    public ParallelMergeSortStrategy(ForkJoinPool pool, int sequentialCutoff) {
+        this(pool, sequentialCutoff, true);
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and moves and measure their time
+     */
+    public ParallelMergeSortStrategy(ForkJoinPool pool, int sequentialCutoff, boolean instrumented) {
+        super(instrumented);
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork-join pool cannot be null");
+        }
+
+        if (sequentialCutoff < INSERTION_SORT_THRESHOLD) {
+            throw new IllegalArgumentException("Sequential cutoff must be at least " + INSERTION_SORT_THRESHOLD);
+        }
+
+        this.pool = pool;
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        // Tasks count moves locally and flush them once each; uninstrumented calls skip that too
+        LongAdder moves = counters == SortCounters.NONE ? null : new LongAdder();
+
+        pool.invoke(new SortTask<>(array, scratch, 0, array.length, comparator, sequentialCutoff, moves));
+
+        if (moves != null) {
+            counters.addSwaps(moves.sum());
+        }
+    }
+
+    @Override
+    protected boolean comparesConcurrently() {
+        return true;
+    }
+
+    @Override
+    protected int scratchLength(int size) {
+        return size;
+    }
+
+    /**
+     * Sorts {@code array[from, to)} in place, using the same range of {@code buffer} as scratch space.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] array;
+        private final Object[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<T> comparator;
+        private final int sequentialCutoff;
+        private final LongAdder moves;
+
+        SortTask(Object[] array, Object[] buffer, int from, int to, Comparator<T> comparator,
+                 int sequentialCutoff, LongAdder moves) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.sequentialCutoff = sequentialCutoff;
+            this.moves = moves;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialCutoff) {
+                SequentialMerger<T> merger = new SequentialMerger<>(comparator);
+                merger.mergeSort(array, buffer, from, to);
+                flushMoves(moves, merger);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new SortTask<>(array, buffer, from, mid, comparator, sequentialCutoff, moves),
+                    new SortTask<>(array, buffer, mid, to, comparator, sequentialCutoff, moves));
+
+            System.arraycopy(array, from, buffer, from, to - from);
+            new MergeTask<>(buffer, from, mid, mid, to, array, from, comparator, sequentialCutoff, moves).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code source[leftFrom, leftTo)} and {@code source[rightFrom, rightTo)}
+     * into {@code target} starting at {@code targetFrom}. Elements of the left run win ties.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] source;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final Object[] target;
+        private final int targetFrom;
+        private final Comparator<T> comparator;
+        private final int sequentialCutoff;
+        private final LongAdder moves;
+
+        MergeTask(Object[] source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+                  Object[] target, int targetFrom, Comparator<T> comparator, int sequentialCutoff,
+                  LongAdder moves) {
+            this.source = source;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.target = target;
+            this.targetFrom = targetFrom;
+            this.comparator = comparator;
+            this.sequentialCutoff = sequentialCutoff;
+            this.moves = moves;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+
+            if (leftLength + rightLength <= sequentialCutoff) {
+                SequentialMerger<T> merger = new SequentialMerger<>(comparator);
+                merger.merge(source, leftFrom, leftTo, rightFrom, rightTo, target, targetFrom);
+                flushMoves(moves, merger);
+                return;
+            }
+
+            int leftSplit;
+            int rightSplit;
+
+            if (leftLength >= rightLength) {
+                // Right elements equal to the pivot must stay after it: lower bound
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                T pivot = (T) source[leftSplit];
+                int low = rightFrom;
+                int high = rightTo;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (comparator.compare((T) source[mid], pivot) < 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                rightSplit = low;
+            } else {
+                // Left elements equal to the pivot must stay before it: upper bound
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                T pivot = (T) source[rightSplit];
+                int low = leftFrom;
+                int high = leftTo;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (comparator.compare((T) source[mid], pivot) <= 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                leftSplit = low;
+            }
+
+            int secondTarget = targetFrom + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            invokeAll(
+                    new MergeTask<>(source, leftFrom, leftSplit, rightFrom, rightSplit,
+                            target, targetFrom, comparator, sequentialCutoff, moves),
+                    new MergeTask<>(source, leftSplit, leftTo, rightSplit, rightTo,
+                            target, secondTarget, comparator, sequentialCutoff, moves));
+        }
+    }
+
+    private static void flushMoves(LongAdder moves, SequentialMerger<?> merger) {
+        if (moves != null) {
+            moves.add(merger.moves);
+        }
+    }
+
+    /**
+     * Single-threaded merge sort used below the cutoff. Counts moves locally; they
+     * are flushed into the shared adder once per task.
+     */
+    private static final class SequentialMerger<T> {
+        private final Comparator<T> comparator;
+        private long moves;
+
+        SequentialMerger(Comparator<T> comparator) {
+            this.comparator = comparator;
+        }
+
+        void mergeSort(Object[] array, Object[] buffer, int from, int to) {
+            if (to - from <= INSERTION_SORT_THRESHOLD) {
+                insertionSort(array, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            mergeSort(array, buffer, from, mid);
+            mergeSort(array, buffer, mid, to);
+
+            if (compare(array[mid - 1], array[mid]) <= 0) {
+                return;
+            }
+
+            System.arraycopy(array, from, buffer, from, to - from);
+            merge(buffer, from, mid, mid, to, array, from);
+        }
+
+        void merge(Object[] source, int leftFrom, int leftTo, int rightFrom, int rightTo,
+                   Object[] target, int targetFrom) {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = targetFrom;
+
+            while (i < leftTo && j < rightTo) {
+                if (compare(source[i], source[j]) <= 0) {
+                    target[k++] = source[i++];
+                } else {
+                    target[k++] = source[j++];
+                }
+            }
+
+            while (i < leftTo) {
+                target[k++] = source[i++];
+            }
+
+            while (j < rightTo) {
+                target[k++] = source[j++];
+            }
+
+            moves += k - targetFrom;
+        }
+
+        private void insertionSort(Object[] array, int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                Object current = array[i];
+                int j = i - 1;
+
+                while (j >= from) {
+                    if (compare(array[j], current) <= 0) {
+                        break;
+                    }
+                    array[j + 1] = array[j];
+                    moves++;
+                    j--;
+                }
+
+                array[j + 1] = current;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(Object a, Object b) {
+            return comparator.compare((T) a, (T) b);
+        }
+    }
+
+    public int getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel Merge Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) work, O(log³ n) span";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    protected String getSwapLabel() {
+        return "Moves";
+    }
+}
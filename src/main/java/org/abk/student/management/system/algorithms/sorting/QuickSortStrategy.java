@@ -1,7 +1,6 @@
 package org.abk.student.management.system.algorithms.sorting;
 
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * Quick Sort implementation using the Strategy pattern.
@@ -13,7 +12,8 @@ import java.util.List;
  * <p>
  * Characteristics: <br/>
  * - Divide and conquer approach <br/>
- * - Not stable (may change relative order of equal elements) <br/>
+ * - Not stable (may change relative order of equal elements); the key entry points
+ * are stable, as {@link KeyOrder} breaks ties by input position <br/>
  * - In-place sorting with O(log n) stack space <br/>
  * - One of the fastest sorting algorithms in practice
  * <p>
@@ -37,88 +37,112 @@ import java.util.List;
  * @author Soft Development ABK
  * @version 1.0
  */
-public class QuickSortStrategy implements SortStrategy {
-    private long comparisonCount;
-    private long swapCount;
-    private long executionTime;
-
+public class QuickSortStrategy extends AbstractSortStrategy {
     public QuickSortStrategy() {
-        resetCounters();
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public QuickSortStrategy(boolean instrumented) {
+        super(instrumented);
     }
 
     @Override
-    public <T> void sort(List<T> list, Comparator<T> comparator) {
-        if (list == null) {
-            throw new IllegalArgumentException("List cannot be null");
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        quickSort(array, 0, array.length - 1, comparator, counters);
+    }
+
+    private <T> void quickSort(T[] array, int low, int high, Comparator<T> comparator, SortCounters counters) {
+        if (low < high) {
+            int pivotIndex = partition(array, low, high, comparator, counters);
+
+            quickSort(array, low, pivotIndex - 1, comparator, counters);
+            quickSort(array, pivotIndex + 1, high, comparator, counters);
+        }
+    }
+
+    private <T> int partition(T[] array, int low, int high, Comparator<T> comparator, SortCounters counters) {
+        int mid = low + (high - low) / 2;
+
+        if (comparator.compare(array[mid], array[low]) < 0) {
+            swap(array, low, mid, counters);
         }
 
-        if (comparator == null) {
-            throw new IllegalArgumentException("Comparator cannot be null");
+        if (comparator.compare(array[high], array[low]) < 0) {
+            swap(array, low, high, counters);
         }
 
-        resetCounters();
-        long startTime = System.currentTimeMillis();
+        if (comparator.compare(array[mid], array[high]) < 0) {
+            swap(array, mid, high, counters);
+        }
+
+        T pivot = array[high];
+        int i = low - 1;
 
-        if (list.size() > 1) {
-            quickSort(list, 0, list.size() - 1, comparator);
+        for (int j = low; j < high; j++) {
+            if (comparator.compare(array[j], pivot) <= 0) {
+                i++;
+                swap(array, i, j, counters);
+            }
         }
 
-        executionTime = System.currentTimeMillis() - startTime;
+        swap(array, i + 1, high, counters);
+
+        return i + 1;
+    }
+
+    @Override
+    void sortIndices(int[] order, KeyOrder keys, SortCounters counters) {
+        quickSortIndices(order, 0, order.length - 1, keys, counters);
     }
 
-    private <T> void quickSort(List<T> list, int low, int high, Comparator<T> comparator) {
+    private void quickSortIndices(int[] order, int low, int high, KeyOrder keys, SortCounters counters) {
         if (low < high) {
-            int pivotIndex = partition(list, low, high, comparator);
+            int pivotIndex = partitionIndices(order, low, high, keys, counters);
 
-            quickSort(list, low, pivotIndex - 1, comparator);
-            quickSort(list, pivotIndex + 1, high, comparator);
+            quickSortIndices(order, low, pivotIndex - 1, keys, counters);
+            quickSortIndices(order, pivotIndex + 1, high, keys, counters);
         }
     }
 
-    private <T> int partition(List<T> list, int low, int high, Comparator<T> comparator) {
+    private int partitionIndices(int[] order, int low, int high, KeyOrder keys, SortCounters counters) {
         int mid = low + (high - low) / 2;
 
-        if (comparator.compare(list.get(mid), list.get(low)) < 0) {
-            swap(list, low, mid);
-            swapCount++;
+        counters.addComparisons(3);
+        if (keys.compare(order[mid], order[low]) < 0) {
+            swap(order, low, mid, counters);
         }
-        comparisonCount++;
 
-        if (comparator.compare(list.get(high), list.get(low)) < 0) {
-            swap(list, low, high);
-            swapCount++;
+        if (keys.compare(order[high], order[low]) < 0) {
+            swap(order, low, high, counters);
         }
-        comparisonCount++;
 
-        if (comparator.compare(list.get(mid), list.get(high)) < 0) {
-            swap(list, mid, high);
-            swapCount++;
+        if (keys.compare(order[mid], order[high]) < 0) {
+            swap(order, mid, high, counters);
         }
-        comparisonCount++;
 
-        T pivot = list.get(high);
+        int pivot = order[high];
         int i = low - 1;
 
         for (int j = low; j < high; j++) {
-            comparisonCount++;
-
-            if (comparator.compare(list.get(j), pivot) <= 0) {
+            counters.countComparison();
+            if (keys.compare(order[j], pivot) <= 0) {
                 i++;
-                swap(list, i, j);
-                swapCount++;
+                swap(order, i, j, counters);
             }
         }
 
-        swap(list, i + 1, high);
-        swapCount++;
+        swap(order, i + 1, high, counters);
 
         return i + 1;
     }
 
-    private <T> void swap(List<T> list, int i, int j) {
-        T temp = list.get(i);
-        list.set(i, list.get(j));
-        list.set(j, temp);
+    @Override
+    public long estimateComparisons(int size) {
+        // Average case: 2 n ln n = 1.39 n log2 n
+        return (long) (1.39 * super.estimateComparisons(size));
     }
 
     @Override
@@ -135,32 +159,4 @@ public class QuickSortStrategy implements SortStrategy {
     public String getSpaceComplexity() {
         return "O(log n)";
     }
-
-    @Override
-    public long getComparisonCount() {
-        return comparisonCount;
-    }
-
-    @Override
-    public long getSwapCount() {
-        return swapCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-
-    @Override
-    public void resetCounters() {
-        this.comparisonCount = 0;
-        this.swapCount = 0;
-        this.executionTime = 0;
-    }
-
-    @Override
-    public String toString() {
-        return String.format("%s [Comparisons: %d, Swaps: %d, Time: %dms]",
-                getAlgorithmName(), comparisonCount, swapCount, executionTime);
-    }
 }
@@ -0,0 +1,18 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * Immutable result and measurements of one {@link TopKSelector} call.
+ *
+ * @param value      the selected elements in order ({@code topK}) or the selected element ({@code selectKth})
+ * @param statistics comparisons and moves of the call, including ordering the selection
+ * @param <R>        type of the value
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record SelectionResult<R>(R value, SortStatistics statistics) {
+    public SelectionResult {
+        if (statistics == null) {
+            throw new IllegalArgumentException("Statistics cannot be null");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Arrays;
+
+/**
+ * Thread-local pool of scratch buffers for the array-backed sorting core.
+ * <p>
+ * Each thread keeps at most one buffer. A sort takes it out of the pool while it
+ * runs (so a nested sort on the same thread gets its own buffer) and puts it back
+ * afterwards, with the slots it used cleared so that no sorted elements stay
+ * reachable. A small sort handed a large pooled buffer therefore clears only what
+ * it touched. Buffers larger than {@link #MAX_POOLED_LENGTH} are never kept.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class SortBuffers {
+    static final int MAX_POOLED_LENGTH = 1 << 22;
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final ThreadLocal<Object[]> POOL = new ThreadLocal<>();
+
+    private SortBuffers() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static Object[] acquire(int minLength) {
+        if (minLength == 0) {
+            return EMPTY;
+        }
+
+        Object[] pooled = POOL.get();
+        if (pooled != null && pooled.length >= minLength) {
+            POOL.remove();
+            return pooled;
+        }
+
+        return new Object[minLength];
+    }
+
+    /**
+     * Returns a buffer to the pool.
+     *
+     * @param usedLength number of leading slots the sort may have written; only those
+     *                   are cleared, and only if the buffer is kept
+     */
+    static void release(Object[] buffer, int usedLength) {
+        if (buffer.length == 0 || buffer.length > MAX_POOLED_LENGTH) {
+            return;
+        }
+
+        Object[] pooled = POOL.get();
+        if (pooled != null && pooled.length >= buffer.length) {
+            return;
+        }
+
+        Arrays.fill(buffer, 0, Math.min(usedLength, buffer.length), null);
+        POOL.set(buffer);
+    }
+}
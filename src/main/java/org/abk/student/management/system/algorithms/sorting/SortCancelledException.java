@@ -0,0 +1,25 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * Thrown from inside a sort that was cancelled through a {@link MonitoredSortStrategy}.
+ * <p>
+ * The array-backed strategies write the sorted order back to the list only after the
+ * algorithm has finished, so a cancelled sort leaves the list exactly as it was.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SortCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long completedComparisons;
+
+    public SortCancelledException(String algorithmName, long completedComparisons) {
+        super(algorithmName + " was cancelled after " + completedComparisons + " comparisons");
+        this.completedComparisons = completedComparisons;
+    }
+
+    public long getCompletedComparisons() {
+        return completedComparisons;
+    }
+}
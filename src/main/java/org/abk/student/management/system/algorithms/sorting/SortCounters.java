@@ -0,0 +1,66 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * Mutable comparison and swap counts of one sort call in progress.
+ * <p>
+ * An instrumented call creates a fresh instance and passes it down to the
+ * algorithm, so the counts live on the caller's stack rather than in the
+ * strategy and concurrent calls on the same strategy never share them. Not
+ * thread-safe: algorithms that fork work count per task and add the totals
+ * at the end.
+ * <p>
+ * Uninstrumented calls pass {@link #NONE}, whose methods do nothing, so the
+ * counting calls left in the algorithms compile down to nothing.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SortCounters {
+    /**
+     * Counters that discard everything, used by uninstrumented strategies.
+     */
+    public static final SortCounters NONE = new SortCounters() {
+        @Override
+        public void countComparison() {
+        }
+
+        @Override
+        public void addComparisons(long count) {
+        }
+
+        @Override
+        public void countSwap() {
+        }
+
+        @Override
+        public void addSwaps(long count) {
+        }
+    };
+
+    private long comparisons;
+    private long swaps;
+
+    public void countComparison() {
+        comparisons++;
+    }
+
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+
+    public void countSwap() {
+        swaps++;
+    }
+
+    public void addSwaps(long count) {
+        swaps += count;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+}
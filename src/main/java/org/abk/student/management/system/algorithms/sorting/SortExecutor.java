@@ -0,0 +1,191 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs a sort on a worker thread with progress reporting, cancellation and a time budget.
+ * <p>
+ * The job receives a {@link MonitoredSortStrategy} wrapping the chosen strategy and
+ * must do its sorting through it. While the job runs, the calling thread polls every
+ * {@value #POLL_INTERVAL_MILLIS} ms: <br/>
+ * - reports comparisons so far against {@link SortStrategy#estimateComparisons} <br/>
+ * - cancels the sort when the listener asks for it <br/>
+ * - cancels the sort when the time budget is exceeded and, if a fallback strategy
+ * is configured, runs the same job again with the fallback (without a budget)
+ * <p>
+ * A cancelled sort leaves the data unchanged, so the fallback starts from the
+ * original order.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SortExecutor {
+    public static final long POLL_INTERVAL_MILLIS = 100;
+    public static final long NO_TIME_BUDGET = 0;
+
+    private final long timeBudgetMillis;
+    private final SortStrategy fallbackStrategy;
+
+    public SortExecutor() {
+        this(NO_TIME_BUDGET, null);
+    }
+
+    /**
+     * @param timeBudgetMillis maximum running time of the first attempt, {@link #NO_TIME_BUDGET} for none
+     * @param fallbackStrategy strategy used when the budget is exceeded, or {@code null} to give up
+     */
+    public SortExecutor(long timeBudgetMillis, SortStrategy fallbackStrategy) {
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget cannot be negative");
+        }
+
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.fallbackStrategy = fallbackStrategy;
+    }
+
+    /**
+     * Runs {@code job} with {@code strategy} and waits for it to finish, be cancelled or time out.
+     *
+     * @param size number of elements the job sorts, used for the progress estimate
+     */
+    public <R> Outcome<R> execute(SortStrategy strategy, int size,
+                                  Function<SortStrategy, R> job, ProgressListener listener) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Sort strategy cannot be null");
+        }
+
+        if (job == null) {
+            throw new IllegalArgumentException("Job cannot be null");
+        }
+
+        ProgressListener progress = listener == null ? ProgressListener.SILENT : listener;
+        long startTime = System.currentTimeMillis();
+
+        try {
+            Attempt<R> attempt = run(strategy, size, job, progress, timeBudgetMillis);
+            if (attempt.status() != Status.TIMED_OUT || fallbackStrategy == null
+                    || fallbackStrategy.getAlgorithmName().equals(strategy.getAlgorithmName())) {
+                return new Outcome<>(attempt.status(), attempt.value(), strategy,
+                        System.currentTimeMillis() - startTime);
+            }
+
+            Attempt<R> fallback = run(fallbackStrategy, size, job, progress, NO_TIME_BUDGET);
+            Status status = fallback.status() == Status.COMPLETED ? Status.FALLBACK_COMPLETED : fallback.status();
+            return new Outcome<>(status, fallback.value(), fallbackStrategy,
+                    System.currentTimeMillis() - startTime);
+        } finally {
+            progress.onFinished();
+        }
+    }
+
+    private <R> Attempt<R> run(SortStrategy strategy, int size, Function<SortStrategy, R> job,
+                               ProgressListener listener, long budgetMillis) {
+        MonitoredSortStrategy monitored = new MonitoredSortStrategy(strategy);
+        long estimate = strategy.estimateComparisons(size);
+
+        FutureTask<R> task = new FutureTask<>(() -> job.apply(monitored));
+        Thread worker = new Thread(task, "sort-worker");
+        worker.setDaemon(true);
+        worker.start();
+
+        long startTime = System.currentTimeMillis();
+        Status stopReason = null;
+
+        while (true) {
+            try {
+                R value = task.get(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                return new Attempt<>(Status.COMPLETED, value);
+            } catch (TimeoutException e) {
+                long elapsed = System.currentTimeMillis() - startTime;
+                listener.onProgress(strategy.getAlgorithmName(), monitored.getCompletedComparisons(), estimate, elapsed);
+
+                if (stopReason == null && listener.isCancelRequested()) {
+                    stopReason = Status.CANCELLED;
+                    monitored.cancel();
+                } else if (stopReason == null && budgetMillis != NO_TIME_BUDGET && elapsed > budgetMillis) {
+                    stopReason = Status.TIMED_OUT;
+                    monitored.cancel();
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SortCancelledException) {
+                    return new Attempt<>(stopReason == null ? Status.CANCELLED : stopReason, null);
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Sort failed", cause);
+            } catch (InterruptedException e) {
+                monitored.cancel();
+                Thread.currentThread().interrupt();
+                return new Attempt<>(Status.CANCELLED, null);
+            }
+        }
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    public SortStrategy getFallbackStrategy() {
+        return fallbackStrategy;
+    }
+
+    /**
+     * How an execution ended.
+     */
+    public enum Status {
+        COMPLETED,
+        FALLBACK_COMPLETED,
+        CANCELLED,
+        TIMED_OUT
+    }
+
+    /**
+     * Result of an execution.
+     *
+     * @param value    the job's result, {@code null} unless the status is a completed one
+     * @param strategy the strategy that produced the value (the fallback after a timeout)
+     */
+    public record Outcome<R>(Status status, R value, SortStrategy strategy, long elapsedMillis) {
+        public boolean isCompleted() {
+            return status == Status.COMPLETED || status == Status.FALLBACK_COMPLETED;
+        }
+    }
+
+    private record Attempt<R>(Status status, R value) {
+    }
+
+    /**
+     * Receives progress updates on the calling thread while a sort runs.
+     */
+    public interface ProgressListener {
+        ProgressListener SILENT = new ProgressListener() {
+            @Override
+            public void onProgress(String algorithmName, long comparisons, long estimatedComparisons, long elapsedMillis) {
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return false;
+            }
+
+            @Override
+            public void onFinished() {
+            }
+        };
+
+        void onProgress(String algorithmName, long comparisons, long estimatedComparisons, long elapsedMillis);
+
+        boolean isCancelRequested();
+
+        void onFinished();
+    }
+}
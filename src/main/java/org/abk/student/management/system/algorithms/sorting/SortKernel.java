@@ -0,0 +1,16 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * A sort routine bound to one comparator, produced by {@link ComparatorSpecializer}.
+ * <p>
+ * Instances are single-use: one instance sorts one array and then reports what it counted
+ * (zero for a kernel specialised without counting).
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+interface SortKernel {
+    void sort(Object[] array);
+    long getComparisonCount();
+    long getSwapCount();
+}
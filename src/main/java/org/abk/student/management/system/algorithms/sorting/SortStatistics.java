@@ -0,0 +1,27 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+/**
+ * Immutable measurements of a single sort call.
+ * <p>
+ * Returned by every {@link SortStrategy} entry point, so one strategy instance can
+ * serve concurrent callers and each of them still sees the figures of its own call.
+ *
+ * @param algorithmName name of the algorithm that did the work
+ * @param size          number of elements sorted
+ * @param comparisons   comparisons made (character examinations for string-specialised sorts)
+ * @param swaps         swaps or element moves made
+ * @param executionTime wall-clock time in milliseconds
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record SortStatistics(String algorithmName, int size, long comparisons, long swaps, long executionTime) {
+    public static SortStatistics empty(String algorithmName) {
+        return new SortStatistics(algorithmName, 0, 0, 0, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Comparisons: %d, Swaps: %d, Time: %dms]",
+                algorithmName, comparisons, swaps, executionTime);
+    }
+}
@@ -2,6 +2,10 @@ package org.abk.student.management.system.algorithms.sorting;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Strategy interface for sorting algorithms.
@@ -13,12 +17,30 @@ import java.util.List;
  * - Encapsulates sorting algorithms <br/>
  * - Makes them interchangeable <br/>
  * - Allows runtime algorithm selection
+ * <p>
+ * Primitive-key entry points: <br/>
+ * The {@code sortBy*Key} methods extract every key once into a primitive array and
+ * sort an index permutation with the strategy's algorithm, comparing keys straight
+ * out of that array. No key is boxed during the sort. The result is the same as
+ * {@link #sort} with {@code Comparator.comparingDouble(key)} (or its reverse).
+ * {@link #sortByStringKey} likewise extracts every string once; strategies that
+ * specialise in strings order them character by character instead of by
+ * {@link String#compareTo}, with the same result.
+ * <p>
+ * Statistics: <br/>
+ * Every entry point returns the {@link SortStatistics} of that call. The counter
+ * getters are kept for compatibility and report the last finished call; they are
+ * only meaningful when the instance is not shared between threads.
  *
  * @author Soft Development ABK
  * @version 1.0
  */
 public interface SortStrategy {
-    <T> void sort(List<T> list, Comparator<T> comparator);
+    <T> SortStatistics sort(List<T> list, Comparator<T> comparator);
+    <T> SortStatistics sortByDoubleKey(List<T> list, ToDoubleFunction<? super T> keyExtractor, boolean ascending);
+    <T> SortStatistics sortByIntKey(List<T> list, ToIntFunction<? super T> keyExtractor, boolean ascending);
+    <T> SortStatistics sortByLongKey(List<T> list, ToLongFunction<? super T> keyExtractor, boolean ascending);
+    <T> SortStatistics sortByStringKey(List<T> list, Function<? super T, String> keyExtractor, boolean ascending);
     String getAlgorithmName();
     String getTimeComplexity();
     String getSpaceComplexity();
@@ -26,4 +48,19 @@ public interface SortStrategy {
     long getSwapCount();
     long getExecutionTime();
     void resetCounters();
+
+    /**
+     * Whether calls count comparisons and swaps and measure their time. Uninstrumented
+     * strategies do no bookkeeping and return statistics that are all zero.
+     */
+    default boolean isInstrumented() {
+        return true;
+    }
+
+    /**
+     * Expected number of comparisons for a list of the given size, used to report progress.
+     */
+    default long estimateComparisons(int size) {
+        return size < 2 ? 0 : (long) Math.ceil(size * (Math.log(size) / Math.log(2)));
+    }
 }
@@ -0,0 +1,73 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import org.abk.student.management.system.algorithms.CountingComparator;
+
+import java.util.Comparator;
+
+/**
+ * Intro Sort that runs on a kernel compiled for each long-lived comparator.
+ * <p>
+ * Algorithm Description: <br/>
+ * A single sort loop that is used with many comparators (ID, name, mark, rank,
+ * reversed...) has a megamorphic {@code compare} call site, so the JIT can neither
+ * inline the comparator nor the key extractors behind it. This strategy hands each
+ * comparator that is used repeatedly to its own copy of the Intro Sort kernel, a
+ * hidden class defined at run time from the same bytecode with the comparator as a
+ * constant (see {@link ComparatorSpecializer}). Each copy sees one comparator only
+ * and is compiled for it. Comparators seen for the first time run on the shared
+ * {@link IntroSortStrategy} code.
+ * <p>
+ * Characteristics: <br/>
+ * - Same order, comparisons and swaps as {@link IntroSortStrategy} <br/>
+ * - Not stable <br/>
+ * - One small hidden class per specialised comparator and counting mode, unloaded after eviction <br/>
+ * - Uninstrumented instances run a kernel without counting code
+ * <p>
+ * Time Complexity: O(n log n) all cases <br/>
+ * Space Complexity: O(log n)
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SpecializedIntroSortStrategy extends IntroSortStrategy {
+    public SpecializedIntroSortStrategy() {
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public SpecializedIntroSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
+
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        // Specialise on the caller's comparator, not on the per-call counting wrapper
+        Comparator<T> target = comparator instanceof CountingComparator<T> counting ? counting.getDelegate() : comparator;
+        // Uninstrumented sorts get a kernel compiled without counting
+        SortKernel kernel = ComparatorSpecializer.SHARED.kernelFor(target, isInstrumented());
+        if (kernel == null) {
+            super.sortArray(array, comparator, scratch, counters);
+            return;
+        }
+
+        kernel.sort(array);
+        if (isInstrumented()) {
+            counters.addComparisons(kernel.getComparisonCount());
+            counters.addSwaps(kernel.getSwapCount());
+        }
+    }
+
+    /**
+     * Number of comparator-specific kernels defined so far in this JVM.
+     */
+    public static long getSpecializationCount() {
+        return ComparatorSpecializer.SHARED.getSpecializationCount();
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Specialized Intro Sort";
+    }
+}
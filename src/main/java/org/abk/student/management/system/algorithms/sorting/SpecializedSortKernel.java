@@ -0,0 +1,216 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Template of a sort kernel specialised for a single comparator.
+ * <p>
+ * This class is never used directly. {@link ComparatorSpecializer} defines a fresh
+ * hidden class from its bytes for each comparator it specialises, passing the
+ * comparator and whether to count as class data. Every copy therefore has its own
+ * {@code static final} {@link #COMPARATOR} (a constant to the JIT) and its own profile
+ * for every {@code compare} call site, which stays monomorphic and can be inlined
+ * together with the key extractors captured by the comparator.
+ * <p>
+ * {@link #COUNTING} is a constant of the copy as well: a copy made for an
+ * uninstrumented strategy has its counting branches folded away by the JIT, so its
+ * sort loop does no bookkeeping at all and reports zero counts.
+ * <p>
+ * The algorithm is the one of {@link IntroSortStrategy} (median-of-three three-way
+ * quicksort, insertion sort below 16 elements, heap sort past 2 * log2 n levels) and
+ * performs exactly the same comparisons and swaps.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class SpecializedSortKernel implements SortKernel {
+    private static final int COMPARATOR_INDEX = 0;
+    private static final int COUNTING_INDEX = 1;
+
+    private static final Comparator<Object> COMPARATOR = loadComparator();
+    private static final boolean COUNTING = loadCounting();
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private long comparisonCount;
+    private long swapCount;
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> loadComparator() {
+        try {
+            // null for the template itself, the specialised comparator for each hidden copy
+            return MethodHandles.classDataAt(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME,
+                    Comparator.class, COMPARATOR_INDEX);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static boolean loadCounting() {
+        try {
+            Boolean counting = MethodHandles.classDataAt(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME,
+                    Boolean.class, COUNTING_INDEX);
+            return counting != null && counting;
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Class data of a copy: the comparator it is compiled for and whether it counts.
+     */
+    static List<Object> classData(Comparator<?> comparator, boolean counting) {
+        return List.of(comparator, counting);
+    }
+
+    @Override
+    public void sort(Object[] array) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(array.length));
+        introSort(array, 0, array.length - 1, depthLimit);
+    }
+
+    private void introSort(Object[] array, int low, int high, int depthLimit) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depthLimit--;
+
+            Object pivot = medianOfThree(array, low, low + (high - low) / 2, high);
+
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            while (i <= gt) {
+                countComparison();
+                int comparison = COMPARATOR.compare(array[i], pivot);
+
+                if (comparison < 0) {
+                    swap(array, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(array, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (lt - low < high - gt) {
+                introSort(array, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                introSort(array, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+
+        insertionSort(array, low, high);
+    }
+
+    private Object medianOfThree(Object[] array, int a, int b, int c) {
+        countComparison();
+        if (COMPARATOR.compare(array[b], array[a]) < 0) {
+            swap(array, a, b);
+        }
+
+        countComparison();
+        if (COMPARATOR.compare(array[c], array[b]) < 0) {
+            swap(array, b, c);
+
+            countComparison();
+            if (COMPARATOR.compare(array[b], array[a]) < 0) {
+                swap(array, a, b);
+            }
+        }
+
+        return array[b];
+    }
+
+    private void insertionSort(Object[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            Object current = array[i];
+            int j = i - 1;
+
+            while (j >= low) {
+                countComparison();
+                if (COMPARATOR.compare(array[j], current) <= 0) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                countSwap();
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    private void heapSort(Object[] array, int low, int high) {
+        int n = high - low + 1;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(Object[] array, int offset, int root, int size) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                return;
+            }
+
+            if (child + 1 < size) {
+                countComparison();
+                if (COMPARATOR.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                    child++;
+                }
+            }
+
+            countComparison();
+            if (COMPARATOR.compare(array[offset + root], array[offset + child]) >= 0) {
+                return;
+            }
+
+            swap(array, offset + root, offset + child);
+            root = child;
+        }
+    }
+
+    private void swap(Object[] array, int i, int j) {
+        Object temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+        countSwap();
+    }
+
+    private void countComparison() {
+        if (COUNTING) {
+            comparisonCount++;
+        }
+    }
+
+    private void countSwap() {
+        if (COUNTING) {
+            swapCount++;
+        }
+    }
+
+    @Override
+    public long getComparisonCount() {
+        return comparisonCount;
+    }
+
+    @Override
+    public long getSwapCount() {
+        return swapCount;
+    }
+}
@@ -0,0 +1,579 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Adaptive natural-run Merge Sort (TimSort-style) using the Strategy pattern.
+ * <p>
+ * Algorithm Description: <br/>
+ * The input is scanned once for natural runs: maximal non-descending stretches,
+ * or strictly descending stretches which are reversed in place. Short runs are
+ * extended to a minimum length with binary insertion sort. Runs are pushed on a
+ * stack and merged while keeping the stack lengths balanced. Each merge first
+ * trims the elements that are already in place, and switches to galloping
+ * (exponential search) when one run keeps winning.
+ * <p>
+ * Characteristics: <br/>
+ * - Stable sort (maintains relative order of equal elements) <br/>
+ * - Adaptive: exploits existing order in the input <br/>
+ * - Not in-place (temporary buffer of at most n / 2 elements) <br/>
+ * - Galloping turns merges of interleaved blocks into O(log n) searches
+ * <p>
+ * Time Complexity: <br/>
+ * - Best Case: O(n) - input already sorted or reverse sorted <br/>
+ * - Average Case: O(n log n) <br/>
+ * - Worst Case: O(n log n)
+ * <p>
+ * Space Complexity: O(n) - merge buffer
+ * <p>
+ * Use Cases: <br/>
+ * - Nearly sorted data (students appended in ID order, a few marks updated) <br/>
+ * - When stable sorting is required <br/>
+ * - Data made of concatenated sorted blocks
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class TimSortStrategy extends AbstractSortStrategy {
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+    private static final int MAX_RUN_STACK = 49;
+
+    public TimSortStrategy() {
+        super();
+    }
+
+    /**
+     * @param instrumented whether calls count comparisons and swaps and measure their time
+     */
+    public TimSortStrategy(boolean instrumented) {
+        super(instrumented);
+    }
+
+    @Override
+    protected <T> void sortArray(T[] array, Comparator<T> comparator, Object[] scratch, SortCounters counters) {
+        new RunMerger<>(array, comparator, scratch, counters).sort();
+    }
+
+    @Override
+    protected int scratchLength(int size) {
+        return size < MIN_MERGE ? 0 : size >>> 1;
+    }
+
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * Holds the state of one sort: the array, the pending run stack, the merge buffer and the counters.
+     */
+    private static final class RunMerger<T> {
+        private final T[] array;
+        private final Comparator<T> comparator;
+        private final int[] runBase = new int[MAX_RUN_STACK];
+        private final int[] runLength = new int[MAX_RUN_STACK];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;
+        private final Object[] buffer;
+        private final SortCounters counters;
+
+        RunMerger(T[] array, Comparator<T> comparator, Object[] buffer, SortCounters counters) {
+            this.array = array;
+            this.comparator = comparator;
+            this.buffer = buffer;
+            this.counters = counters;
+        }
+
+        void sort() {
+            int low = 0;
+            int remaining = array.length;
+
+            if (remaining < MIN_MERGE) {
+                int initialRun = countRunAndMakeAscending(low, array.length);
+                binaryInsertionSort(low, array.length, low + initialRun);
+                return;
+            }
+
+            int minRun = minRunLength(remaining);
+            do {
+                int run = countRunAndMakeAscending(low, array.length);
+
+                if (run < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(low, low + forced, low + run);
+                    run = forced;
+                }
+
+                pushRun(low, run);
+                mergeCollapse();
+
+                low += run;
+                remaining -= run;
+            } while (remaining != 0);
+
+            mergeForceCollapse();
+        }
+
+        private int compare(Object a, Object b) {
+            @SuppressWarnings("unchecked")
+            int result = comparator.compare((T) a, (T) b);
+            return result;
+        }
+
+        private int countRunAndMakeAscending(int low, int high) {
+            int runHigh = low + 1;
+            if (runHigh == high) {
+                return 1;
+            }
+
+            if (compare(array[runHigh++], array[low]) < 0) {
+                // Strictly descending, so reversing it cannot break stability
+                while (runHigh < high && compare(array[runHigh], array[runHigh - 1]) < 0) {
+                    runHigh++;
+                }
+                reverseRange(low, runHigh);
+            } else {
+                while (runHigh < high && compare(array[runHigh], array[runHigh - 1]) >= 0) {
+                    runHigh++;
+                }
+            }
+
+            return runHigh - low;
+        }
+
+        private void reverseRange(int low, int high) {
+            high--;
+            while (low < high) {
+                T temp = array[low];
+                array[low++] = array[high];
+                array[high--] = temp;
+                counters.countSwap();
+            }
+        }
+
+        private void binaryInsertionSort(int low, int high, int start) {
+            if (start == low) {
+                start++;
+            }
+
+            for (; start < high; start++) {
+                T pivot = array[start];
+                int left = low;
+                int right = start;
+
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (compare(pivot, array[mid]) < 0) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+
+                int shifted = start - left;
+                System.arraycopy(array, left, array, left + 1, shifted);
+                array[left] = pivot;
+                counters.addSwaps(shifted + 1);
+            }
+        }
+
+        private void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges runs until the stack invariants hold again: <br/>
+         * runLength[i - 3] > runLength[i - 2] + runLength[i - 1] and runLength[i - 2] > runLength[i - 1].
+         */
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+
+                mergeAt(n);
+            }
+        }
+
+        private void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Elements of run 1 that are not greater than run 2's head are already in place
+            int skipped = gallopRight(array[base2], array, base1, length1, 0);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+
+            // Elements of run 2 that are not less than run 1's tail are already in place
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            counters.addSwaps(length1 + length2 + Math.min(length1, length2));
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Returns the leftmost position in {@code source[base, base + length)} at which key could be inserted.
+         */
+        private int gallopLeft(Object key, Object[] source, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+
+            if (compare(key, source[base + hint]) > 0) {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compare(key, source[base + hint + offset]) > 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            } else {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compare(key, source[base + hint - offset]) <= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compare(key, source[base + mid]) > 0) {
+                    lastOffset = mid + 1;
+                } else {
+                    offset = mid;
+                }
+            }
+
+            return offset;
+        }
+
+        /**
+         * Returns the rightmost position in {@code source[base, base + length)} at which key could be inserted.
+         */
+        private int gallopRight(Object key, Object[] source, int base, int length, int hint) {
+            int lastOffset = 0;
+            int offset = 1;
+
+            if (compare(key, source[base + hint]) < 0) {
+                int maxOffset = hint + 1;
+                while (offset < maxOffset && compare(key, source[base + hint - offset]) < 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                int temp = lastOffset;
+                lastOffset = hint - offset;
+                offset = hint - temp;
+            } else {
+                int maxOffset = length - hint;
+                while (offset < maxOffset && compare(key, source[base + hint + offset]) >= 0) {
+                    lastOffset = offset;
+                    offset = (offset << 1) + 1;
+                    if (offset <= 0) {
+                        offset = maxOffset;
+                    }
+                }
+                if (offset > maxOffset) {
+                    offset = maxOffset;
+                }
+                lastOffset += hint;
+                offset += hint;
+            }
+
+            lastOffset++;
+            while (lastOffset < offset) {
+                int mid = lastOffset + ((offset - lastOffset) >>> 1);
+                if (compare(key, source[base + mid]) < 0) {
+                    offset = mid;
+                } else {
+                    lastOffset = mid + 1;
+                }
+            }
+
+            return offset;
+        }
+
+        /**
+         * Merges two adjacent runs front to back, buffering the first (shorter) run.
+         */
+        @SuppressWarnings("unchecked")
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            Object[] temp = buffer;
+            System.arraycopy(array, base1, temp, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+
+            array[dest++] = array[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, array, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, dest, length2);
+                array[dest + length2] = (T) temp[cursor1];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // One-at-a-time mode until one run wins MIN_GALLOP times in a row
+                do {
+                    if (compare(array[cursor2], temp[cursor1]) < 0) {
+                        array[dest++] = array[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[dest++] = (T) temp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                // Galloping mode: copy whole blocks found by exponential search
+                do {
+                    count1 = gallopRight(array[cursor2], temp, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(temp, cursor1, array, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[dest++] = array[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(temp[cursor1], array, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(array, cursor2, array, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[dest++] = (T) temp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                if (gallop < 0) {
+                    gallop = 0;
+                }
+                gallop += 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, dest, length2);
+                array[dest + length2] = (T) temp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparator violates its general contract");
+            } else {
+                System.arraycopy(temp, cursor1, array, dest, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs back to front, buffering the second (shorter) run.
+         */
+        @SuppressWarnings("unchecked")
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            Object[] temp = buffer;
+            System.arraycopy(array, base2, temp, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            array[dest--] = array[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(temp, 0, array, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, dest + 1, length1);
+                array[dest] = (T) temp[cursor2];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                do {
+                    if (compare(temp[cursor2], array[cursor1]) < 0) {
+                        array[dest--] = array[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[dest--] = (T) temp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < gallop);
+
+                do {
+                    count1 = length1 - gallopRight(temp[cursor2], array, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array, dest + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[dest--] = (T) temp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(array[cursor1], temp, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(temp, cursor2 + 1, array, dest + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[dest--] = array[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                if (gallop < 0) {
+                    gallop = 0;
+                }
+                gallop += 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, dest + 1, length1);
+                array[dest] = (T) temp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("Comparator violates its general contract");
+            } else {
+                System.arraycopy(temp, 0, array, dest - (length2 - 1), length2);
+            }
+        }
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Tim Sort";
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) avg/worst, O(n) best";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+
+    @Override
+    protected String getSwapLabel() {
+        return "Moves";
+    }
+}
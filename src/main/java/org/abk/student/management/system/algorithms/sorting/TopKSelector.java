@@ -0,0 +1,401 @@
+package org.abk.student.management.system.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Partial sort and selection: the first k elements of a sorted order, or the
+ * element at a single sorted position, without sorting the whole list.
+ * <p>
+ * Algorithm Description: <br/>
+ * - Small k (k * {@value #HEAP_SELECT_RATIO} <= n): bounded heap. A max-heap keeps
+ * the k best elements seen so far; every other element costs one comparison
+ * against the heap root and, if it wins, one sift-down. <br/>
+ * - Otherwise: introselect. Quickselect with a median-of-three pivot narrows
+ * the range around position k; if the recursion gets deeper than 2 * log2(n), the
+ * remaining range is heap sorted instead, which bounds the worst case. <br/>
+ * The k selected elements are then put in order by an ordinary {@link SortStrategy}.
+ * <p>
+ * Ties: <br/>
+ * Elements are compared by the comparator and then by their position in the
+ * input, so the selection is exactly the prefix (or position) a stable full sort
+ * with the same comparator would produce, equal elements included.
+ * <p>
+ * Time Complexity: <br/>
+ * - Bounded heap: O(n log k) <br/>
+ * - Introselect: O(n) average, O(n log n) worst case <br/>
+ * - Ordering the result: O(k log k)
+ * <p>
+ * Space Complexity: O(k) for the heap, O(n) index array for introselect
+ * <p>
+ * Every call counts into its own {@link SortCounters} and reports a
+ * {@link SelectionResult}, so a selector holds no per-call state and one instance
+ * can be shared by concurrent callers. The legacy getters report the statistics
+ * of the most recently finished call.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class TopKSelector {
+    public static final int HEAP_SELECT_RATIO = 8;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final SortStrategy orderingStrategy;
+
+    private volatile SortStatistics lastStatistics;
+
+    public TopKSelector() {
+        this(new IntroSortStrategy());
+    }
+
+    /**
+     * @param orderingStrategy strategy used to order the selected elements; its
+     *                         counts are added to the statistics of each call
+     */
+    public TopKSelector(SortStrategy orderingStrategy) {
+        if (orderingStrategy == null) {
+            throw new IllegalArgumentException("Ordering strategy cannot be null");
+        }
+
+        this.orderingStrategy = orderingStrategy;
+    }
+
+    /**
+     * Returns the first {@code k} elements of the list in sorted order, or the whole
+     * list sorted if it has fewer than {@code k} elements. The list is not modified.
+     */
+    public <T> List<T> topK(List<T> list, Comparator<T> comparator, int k) {
+        return selectTopK(list, comparator, k).value();
+    }
+
+    /**
+     * {@link #topK} that also returns the statistics of this call.
+     */
+    public <T> SelectionResult<List<T>> selectTopK(List<T> list, Comparator<T> comparator, int k) {
+        validateInputs(list, comparator);
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative");
+        }
+
+        SortCounters counters = new SortCounters();
+        long startTime = System.currentTimeMillis();
+
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+        int n = array.length;
+        int count = Math.min(k, n);
+
+        int[] selected;
+        if (count == 0) {
+            selected = new int[0];
+        } else if (count == n) {
+            selected = new int[n];
+            for (int i = 0; i < n; i++) {
+                selected[i] = i;
+            }
+        } else if ((long) count * HEAP_SELECT_RATIO <= n) {
+            selected = heapSelect(array, comparator, count, counters);
+        } else {
+            int[] indices = introSelect(array, comparator, count, counters);
+            selected = new int[count];
+            System.arraycopy(indices, 0, selected, 0, count);
+        }
+
+        List<T> result = orderSelected(array, comparator, selected, counters);
+
+        return new SelectionResult<>(result, finish(n, counters, startTime));
+    }
+
+    /**
+     * Returns the element at zero-based position {@code k} of the sorted list.
+     * The list is not modified.
+     */
+    public <T> T selectKth(List<T> list, Comparator<T> comparator, int k) {
+        return selectKthElement(list, comparator, k).value();
+    }
+
+    /**
+     * {@link #selectKth} that also returns the statistics of this call.
+     */
+    public <T> SelectionResult<T> selectKthElement(List<T> list, Comparator<T> comparator, int k) {
+        validateInputs(list, comparator);
+        if (k < 0 || k >= list.size()) {
+            throw new IllegalArgumentException("K must be between 0 and " + (list.size() - 1));
+        }
+
+        SortCounters counters = new SortCounters();
+        long startTime = System.currentTimeMillis();
+
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) list.toArray();
+
+        int index;
+        if ((long) (k + 1) * HEAP_SELECT_RATIO <= array.length) {
+            // The root of a max-heap holding the k + 1 smallest is the k-th
+            index = heapSelect(array, comparator, k + 1, counters)[0];
+        } else {
+            index = introSelect(array, comparator, k, counters)[k];
+        }
+
+        return new SelectionResult<>(array[index], finish(array.length, counters, startTime));
+    }
+
+    private SortStatistics finish(int size, SortCounters counters, long startTime) {
+        SortStatistics statistics = new SortStatistics(getAlgorithmName(), size,
+                counters.getComparisons(), counters.getSwaps(), System.currentTimeMillis() - startTime);
+        lastStatistics = statistics;
+        return statistics;
+    }
+
+    private <T> List<T> orderSelected(T[] array, Comparator<T> comparator, int[] selected, SortCounters counters) {
+        if (selected.length == 0) {
+            return new ArrayList<>();
+        }
+
+        List<Integer> order = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            order.add(index);
+        }
+
+        SortStatistics ordering = orderingStrategy.sort(order, (a, b) -> {
+            int comparison = comparator.compare(array[a], array[b]);
+            return comparison != 0 ? comparison : Integer.compare(a, b);
+        });
+        counters.addComparisons(ordering.comparisons());
+        counters.addSwaps(ordering.swaps());
+
+        List<T> result = new ArrayList<>(selected.length);
+        for (int index : order) {
+            result.add(array[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indices of the {@code k} smallest elements as a max-heap
+     * (the largest of them at position 0).
+     */
+    private <T> int[] heapSelect(T[] array, Comparator<T> comparator, int k, SortCounters counters) {
+        int[] heap = new int[k];
+        for (int i = 0; i < k; i++) {
+            heap[i] = i;
+        }
+
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(array, comparator, heap, i, k, counters);
+        }
+
+        for (int i = k; i < array.length; i++) {
+            if (compare(array, comparator, i, heap[0], counters) < 0) {
+                heap[0] = i;
+                counters.countSwap();
+                siftDown(array, comparator, heap, 0, k, counters);
+            }
+        }
+
+        return heap;
+    }
+
+    /**
+     * Rearranges an index permutation so that position {@code k} holds the index of
+     * the k-th smallest element, with smaller elements before it and larger after it.
+     */
+    private <T> int[] introSelect(T[] array, Comparator<T> comparator, int k, SortCounters counters) {
+        int n = array.length;
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+
+        int low = 0;
+        int high = n - 1;
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(n));
+
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(array, comparator, indices, low, high, counters);
+                return indices;
+            }
+
+            int pivot = partition(array, comparator, indices, low, high, counters);
+            if (pivot == k) {
+                return indices;
+            }
+
+            if (k < pivot) {
+                high = pivot - 1;
+            } else {
+                low = pivot + 1;
+            }
+        }
+
+        insertionSort(array, comparator, indices, low, high, counters);
+        return indices;
+    }
+
+    /**
+     * Lomuto partition of {@code indices[low, high]} around a median-of-three pivot.
+     * The order is strict (ties are broken by index), so no element equals the pivot.
+     */
+    private <T> int partition(T[] array, Comparator<T> comparator, int[] indices, int low, int high,
+                              SortCounters counters) {
+        int mid = (low + high) >>> 1;
+
+        if (compare(array, comparator, indices[mid], indices[low], counters) < 0) {
+            swap(indices, mid, low, counters);
+        }
+        if (compare(array, comparator, indices[high], indices[low], counters) < 0) {
+            swap(indices, high, low, counters);
+        }
+        if (compare(array, comparator, indices[high], indices[mid], counters) < 0) {
+            swap(indices, high, mid, counters);
+        }
+
+        // Median to the end; low and high are already on the correct sides
+        swap(indices, mid, high - 1, counters);
+        int pivot = indices[high - 1];
+
+        int store = low + 1;
+        for (int i = low + 1; i < high - 1; i++) {
+            if (compare(array, comparator, indices[i], pivot, counters) < 0) {
+                swap(indices, i, store, counters);
+                store++;
+            }
+        }
+
+        swap(indices, store, high - 1, counters);
+        return store;
+    }
+
+    private <T> void insertionSort(T[] array, Comparator<T> comparator, int[] indices, int low, int high,
+                                   SortCounters counters) {
+        for (int i = low + 1; i <= high; i++) {
+            int current = indices[i];
+            int j = i - 1;
+
+            while (j >= low && compare(array, comparator, indices[j], current, counters) > 0) {
+                indices[j + 1] = indices[j];
+                counters.countSwap();
+                j--;
+            }
+
+            indices[j + 1] = current;
+        }
+    }
+
+    private <T> void heapSort(T[] array, Comparator<T> comparator, int[] indices, int low, int high,
+                              SortCounters counters) {
+        int length = high - low + 1;
+        int[] heap = new int[length];
+        System.arraycopy(indices, low, heap, 0, length);
+
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, comparator, heap, i, length, counters);
+        }
+
+        for (int end = length - 1; end > 0; end--) {
+            swap(heap, 0, end, counters);
+            siftDown(array, comparator, heap, 0, end, counters);
+        }
+
+        System.arraycopy(heap, 0, indices, low, length);
+    }
+
+    private <T> void siftDown(T[] array, Comparator<T> comparator, int[] heap, int root, int size,
+                              SortCounters counters) {
+        int node = heap[root];
+
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                break;
+            }
+
+            if (child + 1 < size && compare(array, comparator, heap[child + 1], heap[child], counters) > 0) {
+                child++;
+            }
+
+            if (compare(array, comparator, heap[child], node, counters) <= 0) {
+                break;
+            }
+
+            heap[root] = heap[child];
+            counters.countSwap();
+            root = child;
+        }
+
+        heap[root] = node;
+    }
+
+    private static <T> int compare(T[] array, Comparator<T> comparator, int i, int j, SortCounters counters) {
+        counters.countComparison();
+        int comparison = comparator.compare(array[i], array[j]);
+        return comparison != 0 ? comparison : Integer.compare(i, j);
+    }
+
+    private static void swap(int[] indices, int i, int j, SortCounters counters) {
+        int temp = indices[i];
+        indices[i] = indices[j];
+        indices[j] = temp;
+        counters.countSwap();
+    }
+
+    private static void validateInputs(List<?> list, Comparator<?> comparator) {
+        if (list == null) {
+            throw new IllegalArgumentException("List cannot be null");
+        }
+
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+    }
+
+    public SortStrategy getOrderingStrategy() {
+        return orderingStrategy;
+    }
+
+    public String getAlgorithmName() {
+        return "Top-K Selection";
+    }
+
+    public String getTimeComplexity() {
+        return "O(n log k) heap, O(n) average introselect";
+    }
+
+    public String getSpaceComplexity() {
+        return "O(k) heap, O(n) introselect";
+    }
+
+    /**
+     * Returns the statistics of the most recently finished call, or {@code null} if there is none.
+     */
+    public SortStatistics getLastStatistics() {
+        return lastStatistics;
+    }
+
+    public long getComparisonCount() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.comparisons();
+    }
+
+    public long getSwapCount() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.swaps();
+    }
+
+    public long getExecutionTime() {
+        SortStatistics statistics = lastStatistics;
+        return statistics == null ? 0 : statistics.executionTime();
+    }
+
+    public void resetCounters() {
+        lastStatistics = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [Comparisons: %d, Swaps: %d, Time: %dms]",
+                getAlgorithmName(), getComparisonCount(), getSwapCount(), getExecutionTime());
+    }
+}
@@ -0,0 +1,335 @@
+package org.abk.student.management.system.algorithms.sorting.external;
+
+import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * External (on-disk) Merge Sort for datasets that do not fit in the heap.
+ * <p>
+ * Algorithm Description: <br/>
+ * Phase 1 (run generation): records are pulled from a streaming source into an
+ * in-memory chunk until the chunk reaches the memory budget. The chunk is sorted
+ * with an ordinary {@link SortStrategy} and spilled to a run file in the compact
+ * binary format of a {@link RecordCodec}. <br/>
+ * Phase 2 (merging): up to {@code maxFanIn} runs are merged at a time with a
+ * k-way merge driven by a binary heap, reading each run through a large buffer.
+ * If there are more runs than the fan-in, intermediate passes merge them into
+ * longer runs first. The final pass streams records straight to the sink.
+ * <p>
+ * Characteristics: <br/>
+ * - Heap usage bounded by the memory budget, independent of dataset size <br/>
+ * - Stable if the chunk strategy is stable (ties are resolved by run order) <br/>
+ * - Input that fits in one chunk is sorted in memory without touching disk <br/>
+ * - Run files live in a private directory that is deleted when the sort ends
+ * <p>
+ * Time Complexity: O(n log n) comparisons, O(n * passes) sequential I/O <br/>
+ * Space Complexity: O(budget) heap, O(n) temporary disk
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ExternalMergeSort<T> {
+    public static final int DEFAULT_MAX_FAN_IN = 64;
+    private static final int MIN_READ_BUFFER = 8 * 1024;
+    private static final int MAX_READ_BUFFER = 1024 * 1024;
+    private static final int WRITE_BUFFER = 256 * 1024;
+    private static final long REFERENCE_OVERHEAD = 8;
+
+    private final SortStrategy chunkStrategy;
+    private final RecordCodec<T> codec;
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+    private final int maxFanIn;
+
+    private long recordCount;
+    private int runCount;
+    private int mergePasses;
+    private long spilledBytes;
+    private long executionTime;
+
+    public ExternalMergeSort(SortStrategy chunkStrategy, RecordCodec<T> codec) {
+        this(chunkStrategy, codec, Runtime.getRuntime().maxMemory() / 4,
+                Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_MAX_FAN_IN);
+    }
+
+    public ExternalMergeSort(SortStrategy chunkStrategy, RecordCodec<T> codec,
+                             long memoryBudgetBytes, Path tempDirectory) {
+        this(chunkStrategy, codec, memoryBudgetBytes, tempDirectory, DEFAULT_MAX_FAN_IN);
+    }
+
+    public ExternalMergeSort(SortStrategy chunkStrategy, RecordCodec<T> codec,
+                             long memoryBudgetBytes, Path tempDirectory, int maxFanIn) {
+        if (chunkStrategy == null) {
+            throw new IllegalArgumentException("Chunk sort strategy cannot be null");
+        }
+        if (codec == null) {
+            throw new IllegalArgumentException("Record codec cannot be null");
+        }
+        if (memoryBudgetBytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+        if (tempDirectory == null) {
+            throw new IllegalArgumentException("Temp directory cannot be null");
+        }
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Merge fan-in must be at least 2");
+        }
+
+        this.chunkStrategy = chunkStrategy;
+        this.codec = codec;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDirectory = tempDirectory;
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * Sorts every record of the source and passes them to the sink in order.
+     *
+     * @return number of records sorted
+     */
+    public long sort(Iterator<? extends T> source, Comparator<T> comparator, Consumer<? super T> sink)
+            throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink cannot be null");
+        }
+
+        resetCounters();
+        long startTime = System.currentTimeMillis();
+
+        Files.createDirectories(tempDirectory);
+        Path workDirectory = Files.createTempDirectory(tempDirectory, "external-sort-");
+
+        try {
+            List<Run> runs = new ArrayList<>();
+            List<T> chunk = new ArrayList<>();
+            long chunkBytes = 0;
+
+            while (source.hasNext()) {
+                T record = source.next();
+                chunk.add(record);
+                chunkBytes += codec.estimateHeapSize(record) + REFERENCE_OVERHEAD;
+                recordCount++;
+
+                if (chunkBytes >= memoryBudgetBytes) {
+                    runs.add(spill(chunk, comparator, workDirectory));
+                    chunk.clear();
+                    chunkBytes = 0;
+                }
+            }
+
+            if (runs.isEmpty()) {
+                // Everything fitted in memory
+                chunkStrategy.sort(chunk, comparator);
+                chunk.forEach(sink);
+            } else {
+                if (!chunk.isEmpty()) {
+                    runs.add(spill(chunk, comparator, workDirectory));
+                    chunk.clear();
+                }
+                mergeRuns(runs, comparator, sink, workDirectory);
+            }
+
+            return recordCount;
+        } finally {
+            deleteDirectory(workDirectory);
+            executionTime = System.currentTimeMillis() - startTime;
+        }
+    }
+
+    private Run spill(List<T> chunk, Comparator<T> comparator, Path workDirectory) throws IOException {
+        chunkStrategy.sort(chunk, comparator);
+
+        Path file = Files.createTempFile(workDirectory, "run-", ".bin");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER))) {
+            for (T record : chunk) {
+                codec.write(out, record);
+            }
+            spilledBytes += out.size();
+        }
+
+        runCount++;
+        return new Run(file, chunk.size());
+    }
+
+    private void mergeRuns(List<Run> runs, Comparator<T> comparator, Consumer<? super T> sink,
+                           Path workDirectory) throws IOException {
+        while (runs.size() > maxFanIn) {
+            List<Run> merged = new ArrayList<>();
+
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                List<Run> group = runs.subList(from, Math.min(from + maxFanIn, runs.size()));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+
+                Path file = Files.createTempFile(workDirectory, "merge-", ".bin");
+                long count;
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER))) {
+                    count = kWayMerge(group, comparator, record -> write(out, record));
+                    spilledBytes += out.size();
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+
+                for (Run run : group) {
+                    Files.deleteIfExists(run.file());
+                }
+                merged.add(new Run(file, count));
+            }
+
+            runs = merged;
+            mergePasses++;
+        }
+
+        kWayMerge(runs, comparator, sink);
+        mergePasses++;
+    }
+
+    private long kWayMerge(List<Run> runs, Comparator<T> comparator, Consumer<? super T> sink) throws IOException {
+        int readBuffer = (int) Math.max(MIN_READ_BUFFER,
+                Math.min(MAX_READ_BUFFER, memoryBudgetBytes / (runs.size() + 1)));
+
+        // Ties go to the earlier run, which keeps the merge stable
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(runs.size(), (a, b) -> {
+            int comparison = comparator.compare(a.head, b.head);
+            return comparison != 0 ? comparison : Integer.compare(a.order, b.order);
+        });
+        List<RunCursor> cursors = new ArrayList<>(runs.size());
+        long written = 0;
+
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunCursor cursor = new RunCursor(runs.get(i), i, readBuffer);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+
+            while (!heap.isEmpty()) {
+                RunCursor smallest = heap.poll();
+                sink.accept(smallest.head);
+                written++;
+
+                if (smallest.advance()) {
+                    heap.add(smallest);
+                }
+            }
+        } finally {
+            for (RunCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+
+        return written;
+    }
+
+    private void write(DataOutputStream out, T record) {
+        try {
+            codec.write(out, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private record Run(Path file, long count) {
+    }
+
+    /**
+     * Sequential reader over one run file, holding the run's current smallest record.
+     */
+    private final class RunCursor {
+        private final DataInputStream in;
+        private final int order;
+        private long remaining;
+        private T head;
+
+        RunCursor(Run run, int order, int bufferSize) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.file()), bufferSize));
+            this.order = order;
+            this.remaining = run.count();
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                head = null;
+                return false;
+            }
+
+            head = codec.read(in);
+            remaining--;
+            return true;
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    public void resetCounters() {
+        this.recordCount = 0;
+        this.runCount = 0;
+        this.mergePasses = 0;
+        this.spilledBytes = 0;
+        this.executionTime = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("External Merge Sort [Records: %d, Runs: %d, Merge Passes: %d, Spilled: %d bytes, Time: %dms]",
+                recordCount, runCount, mergePasses, spilledBytes, executionTime);
+    }
+}
@@ -0,0 +1,21 @@
+package org.abk.student.management.system.algorithms.sorting.external;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary encoding of records spilled to disk by {@link ExternalMergeSort}.
+ * <p>
+ * Implementations write a compact, self-delimiting representation of one record
+ * and read it back, and estimate how much heap a decoded record occupies so the
+ * sorter can keep each in-memory chunk within its memory budget.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public interface RecordCodec<T> {
+    void write(DataOutput out, T record) throws IOException;
+    T read(DataInput in) throws IOException;
+    long estimateHeapSize(T record);
+}
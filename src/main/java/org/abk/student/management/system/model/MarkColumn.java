@@ -0,0 +1,36 @@
+package org.abk.student.management.system.model;
+
+/**
+ * Read-only primitive column of student marks.
+ * <p>
+ * {@code values[0, length)} holds the marks in the same order as the repository's
+ * student list. The array may be longer than {@code length} and is shared with the
+ * repository without copying, so it must never be modified; the repository copies
+ * it before its next change instead (copy-on-write), which keeps a column that was
+ * handed out unchanged.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record MarkColumn(double[] values, int length) {
+    public MarkColumn {
+        if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        if (length < 0 || length > values.length) {
+            throw new IllegalArgumentException("Length must be between 0 and " + values.length);
+        }
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+
+        return values[index];
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+}
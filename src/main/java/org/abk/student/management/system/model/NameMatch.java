@@ -0,0 +1,22 @@
+package org.abk.student.management.system.model;
+
+/**
+ * A student found by a typo-tolerant name search.
+ * <p>
+ * {@code distance} is the total number of edits between the query's words and
+ * the closest words of the student's name; 0 means every query word appears in
+ * the name exactly.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record NameMatch(Student student, int distance) {
+    public NameMatch {
+        if (student == null) {
+            throw new IllegalArgumentException("Student cannot be null");
+        }
+        if (distance < 0) {
+            throw new IllegalArgumentException("Distance cannot be negative");
+        }
+    }
+}
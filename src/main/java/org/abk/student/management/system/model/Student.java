@@ -1,5 +1,7 @@
 package org.abk.student.management.system.model;
 
+import org.abk.student.management.system.shared.util.SortKeyUtil;
+
 /**
  * Represents a student in the Student Management System.
  * <p>
@@ -11,6 +13,10 @@ package org.abk.student.management.system.model;
  * - name must not be null or empty <br/>
  * - mark must be in range [0.0, 10.0] <br/>
  * - rank is automatically calculated based on mark
+ * <p>
+ * Sort keys: <br/>
+ * The locale-aware name key and the natural-order ID key are computed on first
+ * use and cached; changing the name or ID discards the cached key.
  *
  * @author Soft Development ABK
  * @version 1.0
@@ -20,6 +26,8 @@ public class Student {
     private String name;
     private double mark;
     private StudentRank rank;
+    private String nameCollationKey;
+    private String naturalIdKey;
 
     public Student(String id, String name, double mark) {
         setId(id);
@@ -37,6 +45,7 @@ public class Student {
         }
 
         this.id = id.trim();
+        this.naturalIdKey = null;
     }
 
     public String getName() {
@@ -49,6 +58,7 @@ public class Student {
         }
 
         this.name = name.trim();
+        this.nameCollationKey = null;
     }
 
     public double getMark() {
@@ -68,6 +78,32 @@ public class Student {
         return rank;
     }
 
+    /**
+     * Returns the cached locale-aware, case-insensitive sort key of the name.
+     */
+    public String getNameCollationKey() {
+        String key = nameCollationKey;
+        if (key == null) {
+            key = SortKeyUtil.collationKey(name);
+            nameCollationKey = key;
+        }
+
+        return key;
+    }
+
+    /**
+     * Returns the cached natural-order sort key of the ID ("S2" before "S10").
+     */
+    public String getNaturalIdKey() {
+        String key = naturalIdKey;
+        if (key == null) {
+            key = SortKeyUtil.naturalOrderKey(id);
+            naturalIdKey = key;
+        }
+
+        return key;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -38,6 +38,14 @@ public enum StudentRank {
         return displayName;
     }
 
+    public double getMinMark() {
+        return minMark;
+    }
+
+    public double getMaxMark() {
+        return maxMark;
+    }
+
     public static StudentRank fromMark(double mark) {
         if (mark < MarkConstant.MIN_THRESHOLD || mark > MarkConstant.MAX_THRESHOLD) {
             throw new IllegalArgumentException("Mark must be between " + MarkConstant.MIN_THRESHOLD + " and " + MarkConstant.MAX_THRESHOLD);
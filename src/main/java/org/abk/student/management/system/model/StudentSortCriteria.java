@@ -0,0 +1,64 @@
+package org.abk.student.management.system.model;
+
+import org.abk.student.management.system.shared.util.SortKeyUtil;
+
+import java.util.Comparator;
+
+/**
+ * Enumeration of the fields students can be ordered by.
+ * <p>
+ * Each criterion carries the comparator that defines its ascending order: <br/>
+ * ID | lexicographic order of the student ID <br/>
+ * NAME | lexicographic order of the student name <br/>
+ * MARK | numeric order of the mark ({@link Double#compare}) <br/>
+ * RANK | declaration order of {@link StudentRank} <br/>
+ * ID_NATURAL | natural order of the ID, digit runs by value ("S2" before "S10") <br/>
+ * NAME_COLLATED | locale-aware, case-insensitive order of the name <br/>
+ * ID_NUMERIC | value of the digits in the ID, then the ID; the order the numeric-key
+ * searches (interpolation, Eytzinger) need
+ * <p>
+ * ID_NATURAL and NAME_COLLATED compare the sort keys each {@link Student} precomputes
+ * and caches, never a {@code Collator} per comparison.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public enum StudentSortCriteria {
+    ID("Student ID", Comparator.comparing(Student::getId)),
+    NAME("Student Name", Comparator.comparing(Student::getName)),
+    MARK("Student Mark", Comparator.comparingDouble(Student::getMark)),
+    RANK("Student Rank", Comparator.comparing(Student::getRank)),
+    ID_NATURAL("Student ID (natural order)", Comparator.comparing(Student::getNaturalIdKey)),
+    NAME_COLLATED("Student Name (locale-aware)", Comparator.comparing(Student::getNameCollationKey)),
+    ID_NUMERIC("Student ID (numeric value)", Comparator
+            .comparingDouble((Student student) -> SortKeyUtil.numericKey(student.getId()))
+            .thenComparing(Student::getId));
+
+    private final String displayName;
+    private final Comparator<Student> comparator;
+    private final Comparator<Student> reversedComparator;
+
+    StudentSortCriteria(String displayName, Comparator<Student> comparator) {
+        this.displayName = displayName;
+        this.comparator = comparator;
+        this.reversedComparator = comparator.reversed();
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Comparator<Student> getComparator() {
+        return comparator;
+    }
+
+    public Comparator<Student> getComparator(boolean ascending) {
+        // Always the same instance per direction, so sorters can specialise on it
+        return ascending ? comparator : reversedComparator;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,229 @@
+package org.abk.student.management.system.repository;
+
+import org.abk.student.management.system.algorithms.membership.CuckooFilter;
+import org.abk.student.management.system.algorithms.membership.MembershipFilter;
+import org.abk.student.management.system.model.MarkColumn;
+import org.abk.student.management.system.model.NameMatch;
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import java.util.List;
+
+/**
+ * StudentRepository decorator that answers lookups of absent IDs from a membership filter.
+ * <p>
+ * A {@link CuckooFilter} holds the IDs of all students in the wrapped repository.
+ * {@link #exists} and {@link #find} ask the filter first: when it says "definitely
+ * absent" the answer is returned without touching the repository (an O(n) scan
+ * for {@link InMemoryStudentRepository}); otherwise the repository decides, so
+ * results are always exact. {@link #insert} asks the filter too and hands an ID
+ * it reports as definitely absent to {@link StudentRepository#insertAbsent}, which
+ * skips the repository's own duplicate scan. The filter follows every successful
+ * insert and remove, and is rebuilt twice as large from the repository when it
+ * fills up.
+ * <p>
+ * All other operations are passed through unchanged. Changes must go through
+ * this decorator, not the wrapped repository, or the filter goes stale.
+ * <p>
+ * Time Complexity: <br/>
+ * - exists()/find() for an absent ID: O(1) with probability 1 - false-positive rate <br/>
+ * - exists()/find() otherwise: the wrapped repository's cost <br/>
+ * - insert() of a new ID: the wrapped repository's insertAbsent() cost, with
+ * probability 1 - false-positive rate
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class FilteredStudentRepository implements StudentRepository {
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final StudentRepository delegate;
+    private final double falsePositiveRate;
+    private MembershipFilter filter;
+
+    private long lookups;
+    private long definitelyAbsent;
+    private long falsePositives;
+    private long rebuilds;
+
+    public FilteredStudentRepository(StudentRepository delegate) {
+        this(delegate, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    public FilteredStudentRepository(StudentRepository delegate, double falsePositiveRate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("StudentRepository cannot be null");
+        }
+
+        this.delegate = delegate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = buildFilter(Math.max(MIN_CAPACITY, delegate.size() * 2));
+    }
+
+    private MembershipFilter buildFilter(int expectedKeys) {
+        MembershipFilter built = new CuckooFilter(expectedKeys, falsePositiveRate);
+        for (Student student : delegate.findAll()) {
+            if (!built.add(student.getId())) {
+                return buildFilter(expectedKeys * 2);
+            }
+        }
+        return built;
+    }
+
+    @Override
+    public boolean insert(Student student) {
+        if (student == null) {
+            return delegate.insert(null);
+        }
+
+        // A definitely absent ID lets the repository skip its own uniqueness check
+        boolean inserted;
+        if (isDefinitelyAbsent(student.getId())) {
+            inserted = delegate.insertAbsent(student);
+        } else {
+            inserted = delegate.insert(student);
+            if (inserted) {
+                falsePositives++;
+            }
+        }
+        if (!inserted) {
+            return false;
+        }
+
+        if (!filter.add(student.getId())) {
+            filter = buildFilter(Math.max(MIN_CAPACITY, delegate.size() * 2));
+            rebuilds++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean insertAbsent(Student student) {
+        return insert(student);
+    }
+
+    @Override
+    public boolean remove(String studentId) {
+        if (!delegate.remove(studentId)) {
+            return false;
+        }
+
+        filter.remove(studentId);
+        return true;
+    }
+
+    @Override
+    public boolean update(Student student) {
+        // Updates keep the ID, so the filter is unaffected
+        return delegate.update(student);
+    }
+
+    @Override
+    public Student find(String studentId) {
+        if (isDefinitelyAbsent(studentId)) {
+            return null;
+        }
+
+        Student student = delegate.find(studentId);
+        if (student == null) {
+            falsePositives++;
+        }
+        return student;
+    }
+
+    @Override
+    public boolean exists(String studentId) {
+        if (isDefinitelyAbsent(studentId)) {
+            return false;
+        }
+
+        boolean exists = delegate.exists(studentId);
+        if (!exists) {
+            falsePositives++;
+        }
+        return exists;
+    }
+
+    private boolean isDefinitelyAbsent(String studentId) {
+        // Invalid IDs go to the repository, which rejects them
+        if (studentId == null || studentId.trim().isEmpty()) {
+            return false;
+        }
+
+        lookups++;
+        if (filter.mightContain(studentId)) {
+            return false;
+        }
+
+        definitelyAbsent++;
+        return true;
+    }
+
+    public MembershipFilterMetrics getMetrics() {
+        return new MembershipFilterMetrics(lookups, definitelyAbsent, falsePositives, rebuilds,
+                filter.size(), filter.getLoadFactor(), filter.getFalsePositiveRate(), filter.getMemoryBytes());
+    }
+
+    public void resetMetrics() {
+        lookups = 0;
+        definitelyAbsent = 0;
+        falsePositives = 0;
+        rebuilds = 0;
+    }
+
+    public StudentRepository getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Student> findByRank(StudentRank rank) {
+        return delegate.findByRank(rank);
+    }
+
+    @Override
+    public List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending) {
+        return delegate.findAllSorted(criteria, ascending);
+    }
+
+    @Override
+    public List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending, int limit) {
+        return delegate.findAllSorted(criteria, ascending, limit);
+    }
+
+    @Override
+    public List<NameMatch> findByNameFuzzy(String nameQuery, int maxDistance) {
+        return delegate.findByNameFuzzy(nameQuery, maxDistance);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return delegate.getModificationCount();
+    }
+
+    @Override
+    public MarkColumn getMarkColumn() {
+        return delegate.getMarkColumn();
+    }
+
+    @Override
+    public String toString() {
+        return "Filtered" + delegate + " with " + filter;
+    }
+}
@@ -1,9 +1,13 @@
 package org.abk.student.management.system.repository;
 
+import org.abk.student.management.system.model.MarkColumn;
+import org.abk.student.management.system.model.NameMatch;
 import org.abk.student.management.system.model.Student;
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.model.StudentSortCriteria;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,8 +18,20 @@ import java.util.stream.Collectors;
  * to store Student objects. It maintains the invariant that all student IDs
  * are unique within the collection.
  * <p>
+ * Alongside the list it maintains one balanced search tree per sort criterion
+ * ({@link SortedStudentViews}), updated on every insert, update and remove, so
+ * ordered reads never sort the collection.
+ * <p>
+ * A {@link NameTokenIndex} over the name words is maintained the same way, for
+ * typo-tolerant name search that does not compare the query with every student.
+ * <p>
+ * It also keeps the marks in a primitive {@code double[]} parallel to the list, for
+ * numeric kernels. The array is shared with readers and copied before the next
+ * change after it was handed out (copy-on-write).
+ * <p>
  * Time Complexity: <br/>
  * - insert(): O(n) - due to uniqueness check <br/>
+ * - insertAbsent(): O(log n) amortized - no uniqueness check, only the sorted views and name index <br/>
  * - remove(): O(n) - linear search + removal <br/>
  * - update(): O(n) - linear search + update <br/>
  * - find(): O(n) - linear search <br/>
@@ -24,18 +40,30 @@ import java.util.stream.Collectors;
  * - isEmpty(): O(1) <br/>
  * - clear(): O(1) <br/>
  * - exists(): O(n) - linear search <br/>
- * - findByRank(): O(n) - filters all elements
+ * - findByRank(): O(n) - filters all elements <br/>
+ * - findAllSorted(): O(log n + k) - reads k students from a maintained tree <br/>
+ * - findByNameFuzzy(): O(q * v * L²) - one BK-tree lookup per query word, visiting v of the distinct name words <br/>
+ * - getModificationCount(): O(1) <br/>
+ * - getMarkColumn(): O(1) - no copy; the next change copies the column once
  * <p>
- * Space Complexity: O(n) where n is the number of students
+ * Space Complexity: O(n) where n is the number of students (one tree entry per criterion)
  *
  * @author Soft Development ABK
  * @version 1.0
  */
 public class InMemoryStudentRepository implements StudentRepository {
     private final List<Student> students;
+    private final SortedStudentViews sortedViews;
+    private final NameTokenIndex nameIndex;
+    private long modificationCount;
+    private double[] marks;
+    private boolean marksShared;
 
     public InMemoryStudentRepository() {
         this.students = new ArrayList<>();
+        this.sortedViews = new SortedStudentViews();
+        this.nameIndex = new NameTokenIndex();
+        this.marks = new double[16];
     }
 
     @Override
@@ -48,17 +76,43 @@ public class InMemoryStudentRepository implements StudentRepository {
             return false;
         }
 
-        students.add(student);
+        append(student);
         return true;
     }
 
+    /**
+     * Inserts without the O(n) uniqueness scan; the caller guarantees the ID is absent.
+     */
+    @Override
+    public boolean insertAbsent(Student student) {
+        if (student == null) {
+            throw new IllegalArgumentException("Student cannot be null");
+        }
+
+        append(student);
+        return true;
+    }
+
+    private void append(Student student) {
+        writableMarks(students.size() + 1)[students.size()] = student.getMark();
+        students.add(student);
+        sortedViews.add(student);
+        nameIndex.add(student);
+        modificationCount++;
+    }
+
     @Override
     public boolean remove(String studentId) {
         validateStudentId(studentId);
 
         for (int i = 0; i < students.size(); i++) {
             if (students.get(i).getId().equals(studentId)) {
+                double[] column = writableMarks(students.size());
+                System.arraycopy(column, i + 1, column, i, students.size() - i - 1);
                 students.remove(i);
+                sortedViews.remove(studentId);
+                nameIndex.remove(studentId);
+                modificationCount++;
                 return true;
             }
         }
@@ -72,7 +126,11 @@ public class InMemoryStudentRepository implements StudentRepository {
 
         for (int i = 0; i < students.size(); i++) {
             if (students.get(i).getId().equals(student.getId())) {
+                writableMarks(students.size())[i] = student.getMark();
                 students.set(i, student);
+                sortedViews.replace(student);
+                nameIndex.replace(student);
+                modificationCount++;
                 return true;
             }
         }
@@ -126,6 +184,58 @@ public class InMemoryStudentRepository implements StudentRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public MarkColumn getMarkColumn() {
+        marksShared = true;
+        return new MarkColumn(marks, students.size());
+    }
+
+    private double[] writableMarks(int capacity) {
+        if (marksShared || marks.length < capacity) {
+            int length = marks.length < capacity ? Math.max(capacity, marks.length * 2) : marks.length;
+            marks = Arrays.copyOf(marks, length);
+            marksShared = false;
+        }
+
+        return marks;
+    }
+
+    @Override
+    public List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending) {
+        return findAllSorted(criteria, ascending, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending, int limit) {
+        if (criteria == null) {
+            throw new IllegalArgumentException("Sort criteria cannot be null");
+        }
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        return sortedViews.list(criteria, ascending, limit);
+    }
+
+    @Override
+    public List<NameMatch> findByNameFuzzy(String nameQuery, int maxDistance) {
+        if (nameQuery == null || nameQuery.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name query cannot be null or empty");
+        }
+
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Maximum distance cannot be negative");
+        }
+
+        return nameIndex.search(nameQuery, maxDistance);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -0,0 +1,30 @@
+package org.abk.student.management.system.repository;
+
+/**
+ * Snapshot of how a {@link FilteredStudentRepository}'s membership filter performs.
+ *
+ * @param lookups           exists and find calls that consulted the filter
+ * @param definitelyAbsent  lookups answered by the filter alone
+ * @param falsePositives    lookups the filter passed on for IDs that were not there
+ * @param rebuilds          times the filter was rebuilt larger after filling up
+ * @param keys              IDs currently in the filter
+ * @param loadFactor        share of filter slots in use
+ * @param falsePositiveRate configured upper bound on the false-positive rate
+ * @param memoryBytes       size of the filter's table
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public record MembershipFilterMetrics(long lookups, long definitelyAbsent, long falsePositives, long rebuilds,
+                                      int keys, double loadFactor, double falsePositiveRate, long memoryBytes) {
+    /**
+     * Share of lookups for absent IDs that the filter failed to reject.
+     */
+    public double observedFalsePositiveRate() {
+        long absent = definitelyAbsent + falsePositives;
+        return absent == 0 ? 0 : (double) falsePositives / absent;
+    }
+
+    public double filteredRatio() {
+        return lookups == 0 ? 0 : (double) definitelyAbsent / lookups;
+    }
+}
@@ -0,0 +1,138 @@
+package org.abk.student.management.system.repository;
+
+import org.abk.student.management.system.algorithms.searching.BKTree;
+import org.abk.student.management.system.algorithms.searching.BKTree.TermMatch;
+import org.abk.student.management.system.model.NameMatch;
+import org.abk.student.management.system.model.Student;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant index of student names, kept up to date on every insert, update and remove.
+ * <p>
+ * Names are split into lower-case words (tokens). Every distinct token is stored
+ * once in a {@link BKTree}, and each token maps to the IDs of the students whose
+ * name contains it. A query is tokenized the same way; each query token is looked
+ * up in the tree, so edit distances are computed against a small part of the
+ * token dictionary rather than against every student.
+ * <p>
+ * A student matches when every query token is within the maximum distance of some
+ * token of the name. Its distance is the sum of those closest distances; results
+ * are ordered by distance, then name, then ID.
+ * <p>
+ * The tokens of each student are recorded when it is indexed, so mutating a student
+ * object after it was stored cannot leave stale entries behind.
+ * <p>
+ * Time Complexity: <br/>
+ * - add(), remove(), replace(): O(w * h * L²) for w words per name (tree insertions) <br/>
+ * - search(): O(q * v * L² + m log m) for q query words, v visited tree nodes and m matches
+ * <p>
+ * Space Complexity: O(n * w + t) for t distinct tokens
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class NameTokenIndex {
+    private final BKTree dictionary = new BKTree();
+    private final Map<String, Set<String>> idsByToken = new HashMap<>();
+    private final Map<String, Entry> entriesById = new HashMap<>();
+
+    void add(Student student) {
+        List<String> tokens = tokenize(student.getName());
+        entriesById.put(student.getId(), new Entry(student, tokens));
+
+        for (String token : tokens) {
+            idsByToken.computeIfAbsent(token, key -> {
+                dictionary.add(key);
+                return new LinkedHashSet<>();
+            }).add(student.getId());
+        }
+    }
+
+    void remove(String studentId) {
+        Entry entry = entriesById.remove(studentId);
+        if (entry == null) {
+            return;
+        }
+
+        for (String token : entry.tokens()) {
+            Set<String> ids = idsByToken.get(token);
+            if (ids != null && ids.remove(studentId) && ids.isEmpty()) {
+                idsByToken.remove(token);
+                dictionary.remove(token);
+            }
+        }
+    }
+
+    void replace(Student student) {
+        remove(student.getId());
+        add(student);
+    }
+
+    List<NameMatch> search(String query, int maxDistance) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Closest distance per query token, for the students matching every token so far
+        Map<String, Integer> distances = null;
+        for (String queryToken : queryTokens) {
+            Map<String, Integer> tokenDistances = new LinkedHashMap<>();
+            for (TermMatch match : dictionary.search(queryToken, maxDistance)) {
+                for (String id : idsByToken.get(match.term())) {
+                    // Matches arrive nearest first, so the first distance per student is its best
+                    tokenDistances.putIfAbsent(id, match.distance());
+                }
+            }
+
+            if (distances == null) {
+                distances = tokenDistances;
+            } else {
+                Map<String, Integer> combined = new LinkedHashMap<>();
+                for (Map.Entry<String, Integer> previous : distances.entrySet()) {
+                    Integer distance = tokenDistances.get(previous.getKey());
+                    if (distance != null) {
+                        combined.put(previous.getKey(), previous.getValue() + distance);
+                    }
+                }
+                distances = combined;
+            }
+
+            if (distances.isEmpty()) {
+                break;
+            }
+        }
+
+        List<NameMatch> matches = new ArrayList<>(distances.size());
+        for (Map.Entry<String, Integer> match : distances.entrySet()) {
+            matches.add(new NameMatch(entriesById.get(match.getKey()).student(), match.getValue()));
+        }
+
+        matches.sort(Comparator.comparingInt(NameMatch::distance)
+                .thenComparing(match -> match.student().getName())
+                .thenComparing(match -> match.student().getId()));
+        return matches;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty() && !tokens.contains(word)) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private record Entry(Student student, List<String> tokens) {
+    }
+}
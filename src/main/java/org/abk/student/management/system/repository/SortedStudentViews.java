@@ -0,0 +1,126 @@
+package org.abk.student.management.system.repository;
+
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Sorted views of a student collection, one red-black tree per {@link StudentSortCriteria},
+ * kept up to date on every insert, update and remove.
+ * <p>
+ * Each tree orders entries by the criterion's comparator and then by an insertion
+ * sequence number, so students with equal keys appear in the order they were
+ * inserted, exactly as a stable sort of the repository's list would place them.
+ * An update keeps the student's sequence number, like an in-place list update.
+ * <p>
+ * Entries keep a private copy of the student for ordering, so mutating a student
+ * object after it was stored cannot corrupt the trees.
+ * <p>
+ * Time Complexity: <br/>
+ * - add(), remove(), replace(): O(c log n) for c criteria <br/>
+ * - ascending read of k students: O(log n + k) <br/>
+ * - descending read of k students: O(g log n + k) for g distinct keys read
+ * <p>
+ * Space Complexity: O(c * n)
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+final class SortedStudentViews {
+    private final Map<StudentSortCriteria, NavigableSet<Entry>> views = new EnumMap<>(StudentSortCriteria.class);
+    private final Map<String, Entry> entriesById = new HashMap<>();
+    private long nextSequence;
+
+    SortedStudentViews() {
+        for (StudentSortCriteria criteria : StudentSortCriteria.values()) {
+            Comparator<Student> keyOrder = criteria.getComparator();
+            Comparator<Entry> entryOrder = (a, b) -> {
+                int comparison = keyOrder.compare(a.key(), b.key());
+                return comparison != 0 ? comparison : Long.compare(a.sequence(), b.sequence());
+            };
+            views.put(criteria, new TreeSet<>(entryOrder));
+        }
+    }
+
+    void add(Student student) {
+        link(new Entry(snapshot(student), student, nextSequence++));
+    }
+
+    void remove(String studentId) {
+        Entry entry = entriesById.remove(studentId);
+        if (entry != null) {
+            for (NavigableSet<Entry> view : views.values()) {
+                view.remove(entry);
+            }
+        }
+    }
+
+    void replace(Student student) {
+        Entry previous = entriesById.get(student.getId());
+        if (previous == null) {
+            add(student);
+            return;
+        }
+
+        remove(student.getId());
+        link(new Entry(snapshot(student), student, previous.sequence()));
+    }
+
+    /**
+     * Returns at most {@code limit} students in the criterion's order.
+     */
+    List<Student> list(StudentSortCriteria criteria, boolean ascending, int limit) {
+        NavigableSet<Entry> view = views.get(criteria);
+        List<Student> result = new ArrayList<>(Math.min(limit, view.size()));
+
+        if (ascending) {
+            for (Entry entry : view) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(entry.student());
+            }
+            return result;
+        }
+
+        // Walk the distinct keys from the top, reading each tie group in insertion order
+        Entry cursor = view.isEmpty() ? null : view.last();
+        while (cursor != null && result.size() < limit) {
+            Entry groupStart = new Entry(cursor.key(), null, Long.MIN_VALUE);
+            Entry groupEnd = new Entry(cursor.key(), null, Long.MAX_VALUE);
+
+            for (Entry entry : view.subSet(groupStart, true, groupEnd, true)) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(entry.student());
+            }
+
+            cursor = view.lower(groupStart);
+        }
+
+        return result;
+    }
+
+    private void link(Entry entry) {
+        entriesById.put(entry.student().getId(), entry);
+        for (NavigableSet<Entry> view : views.values()) {
+            view.add(entry);
+        }
+    }
+
+    private static Student snapshot(Student student) {
+        return new Student(student.getId(), student.getName(), student.getMark());
+    }
+
+    private record Entry(Student key, Student student, long sequence) {
+    }
+}
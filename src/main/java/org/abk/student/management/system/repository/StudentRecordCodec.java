@@ -0,0 +1,42 @@
+package org.abk.student.management.system.repository;
+
+import org.abk.student.management.system.algorithms.sorting.external.RecordCodec;
+import org.abk.student.management.system.model.Student;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary encoding of a Student record.
+ * <p>
+ * Layout: id (modified UTF-8), name (modified UTF-8), mark (8-byte IEEE 754).
+ * The rank is not stored since it is derived from the mark.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class StudentRecordCodec implements RecordCodec<Student> {
+    // Student object, two String objects with their byte arrays, and the rank reference
+    private static final long FIXED_HEAP_OVERHEAD = 112;
+
+    @Override
+    public void write(DataOutput out, Student record) throws IOException {
+        out.writeUTF(record.getId());
+        out.writeUTF(record.getName());
+        out.writeDouble(record.getMark());
+    }
+
+    @Override
+    public Student read(DataInput in) throws IOException {
+        String id = in.readUTF();
+        String name = in.readUTF();
+        double mark = in.readDouble();
+        return new Student(id, name, mark);
+    }
+
+    @Override
+    public long estimateHeapSize(Student record) {
+        return FIXED_HEAP_OVERHEAD + record.getId().length() + record.getName().length();
+    }
+}
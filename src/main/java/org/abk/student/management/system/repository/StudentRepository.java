@@ -1,7 +1,10 @@
 package org.abk.student.management.system.repository;
 
+import org.abk.student.management.system.model.MarkColumn;
+import org.abk.student.management.system.model.NameMatch;
 import org.abk.student.management.system.model.Student;
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.model.StudentSortCriteria;
 
 import java.util.List;
 
@@ -13,24 +16,44 @@ import java.util.List;
  * <p>
  * Formal Specification: <br/>
  * - Domain: Collection of Student objects with unique IDs <br/>
- * - Operations: insert, remove, update, find, findAll, findByRank, size, isEmpty, exists
+ * - Operations: insert, insertAbsent, remove, update, find, findAll, findByRank, findAllSorted,
+ *   findByNameFuzzy, size, isEmpty, exists, getModificationCount, getMarkColumn
  * <p>
  * Invariants: <br/>
  * - No two students can have the same ID <br/>
  * - Size must always be >= 0 <br/>
- * - All students in the collection must be non-null
+ * - All students in the collection must be non-null <br/>
+ * - findAllSorted returns the same order as a stable sort of findAll by the criterion <br/>
+ * - getModificationCount increases on every successful insert, remove and update <br/>
+ * - getMarkColumn holds the marks in findAll order <br/>
+ * - findByNameFuzzy returns each student at most once, nearest name first
  *
  * @author Soft Development ABK
  * @version 1.0
  */
 public interface StudentRepository {
     boolean insert(Student student);
+
+    /**
+     * Inserts a student whose ID the caller already knows is absent, for example from a
+     * membership filter. Implementations may skip their uniqueness check; the default
+     * does not.
+     */
+    default boolean insertAbsent(Student student) {
+        return insert(student);
+    }
+
     boolean remove(String studentId);
     boolean update(Student student);
     Student find(String studentId);
     List<Student> findAll();
     List<Student> findByRank(StudentRank rank);
+    List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending);
+    List<Student> findAllSorted(StudentSortCriteria criteria, boolean ascending, int limit);
+    List<NameMatch> findByNameFuzzy(String nameQuery, int maxDistance);
     int size();
     boolean isEmpty();
     boolean exists(String studentId);
+    long getModificationCount();
+    MarkColumn getMarkColumn();
 }
\ No newline at end of file
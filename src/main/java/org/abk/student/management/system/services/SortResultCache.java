@@ -0,0 +1,179 @@
+package org.abk.student.management.system.services;
+
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of sorted student lists, keyed by sort criterion, algorithm and repository version.
+ * <p>
+ * Only the ascending order is stored. A descending request is served from it by
+ * reversing the order of the tie groups while keeping each group in its original
+ * order, which is exactly what a stable sort with the reversed comparator returns.
+ * <p>
+ * Invalidation: <br/>
+ * The version is the repository's modification count. Storing a result for a newer
+ * version drops every entry of older versions, since they can never be hit again.
+ * <p>
+ * Memory bound: <br/>
+ * Each entry is charged for its reference array. When the total exceeds the budget,
+ * the least recently used entries are evicted. Results larger than the whole budget
+ * are not cached.
+ * <p>
+ * Callers always receive a fresh list; the cached arrays are never exposed.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SortResultCache {
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long REFERENCE_BYTES = 8;
+
+    private final long maxBytes;
+    private final Map<Key, Student[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private long latestVersion = Long.MIN_VALUE;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public SortResultCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public SortResultCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a copy of the cached order, or {@code null} if nothing is cached for this key.
+     */
+    public synchronized List<Student> get(StudentSortCriteria criteria, String algorithmName,
+                                          long version, boolean ascending) {
+        Student[] sorted = entries.get(new Key(criteria, algorithmName, version));
+        if (sorted == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        return ascending
+                ? new ArrayList<>(Arrays.asList(sorted))
+                : descendingOf(Arrays.asList(sorted), criteria.getComparator());
+    }
+
+    /**
+     * Stores the ascending order produced for {@code version}.
+     */
+    public synchronized void put(StudentSortCriteria criteria, String algorithmName,
+                                 long version, List<Student> ascendingOrder) {
+        if (version < latestVersion) {
+            return;
+        }
+
+        if (version > latestVersion) {
+            clearEntries();
+            latestVersion = version;
+        }
+
+        long size = estimateBytes(ascendingOrder.size());
+        if (size > maxBytes) {
+            return;
+        }
+
+        Student[] previous = entries.put(new Key(criteria, algorithmName, version),
+                ascendingOrder.toArray(new Student[0]));
+        if (previous != null) {
+            cachedBytes -= estimateBytes(previous.length);
+        }
+        cachedBytes += size;
+
+        Iterator<Student[]> eldest = entries.values().iterator();
+        while (cachedBytes > maxBytes) {
+            cachedBytes -= estimateBytes(eldest.next().length);
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Reverses an ascending order into a descending one, keeping equal elements
+     * in their original relative order.
+     */
+    public static <T> List<T> descendingOf(List<T> ascendingOrder, Comparator<? super T> comparator) {
+        List<T> descending = new ArrayList<>(ascendingOrder.size());
+
+        int groupEnd = ascendingOrder.size();
+        while (groupEnd > 0) {
+            int groupStart = groupEnd - 1;
+            T key = ascendingOrder.get(groupStart);
+            while (groupStart > 0 && comparator.compare(ascendingOrder.get(groupStart - 1), key) == 0) {
+                groupStart--;
+            }
+
+            descending.addAll(ascendingOrder.subList(groupStart, groupEnd));
+            groupEnd = groupStart;
+        }
+
+        return descending;
+    }
+
+    public synchronized void clear() {
+        clearEntries();
+    }
+
+    private void clearEntries() {
+        entries.clear();
+        cachedBytes = 0;
+    }
+
+    private static long estimateBytes(int length) {
+        return ARRAY_HEADER_BYTES + REFERENCE_BYTES * length;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Sort Result Cache [Entries: %d, Size: %d/%d bytes, Hits: %d, Misses: %d, Evictions: %d]",
+                entries.size(), cachedBytes, maxBytes, hitCount, missCount, evictionCount);
+    }
+
+    private record Key(StudentSortCriteria criteria, String algorithmName, long version) {
+    }
+}
@@ -1,15 +1,32 @@
 package org.abk.student.management.system.services;
 
+import org.abk.student.management.system.repository.FilteredStudentRepository;
+import org.abk.student.management.system.repository.MembershipFilterMetrics;
 import org.abk.student.management.system.repository.StudentRepository;
 import org.abk.student.management.system.repository.InMemoryStudentRepository;
+import org.abk.student.management.system.algorithms.kernels.MarkKernels;
+import org.abk.student.management.system.algorithms.searching.BatchSearchResult;
+import org.abk.student.management.system.algorithms.searching.MergeJoinSearch;
+import org.abk.student.management.system.algorithms.sorting.AdaptiveSortStrategy;
 import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+import org.abk.student.management.system.algorithms.sorting.TopKSelector;
+import org.abk.student.management.system.algorithms.sorting.external.ExternalMergeSort;
+import org.abk.student.management.system.repository.StudentRecordCodec;
+import org.abk.student.management.system.model.MarkColumn;
+import org.abk.student.management.system.model.NameMatch;
 import org.abk.student.management.system.model.Student;
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.model.StudentSortCriteria;
 import org.abk.student.management.system.shared.util.ValidationUtil;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -23,19 +40,45 @@ import java.util.stream.Collectors;
  * - Validation and business rules <br/>
  * - Sorting and searching coordination <br/>
  * - Statistics and reporting
+ * <p>
+ * Sorting methods without a strategy argument use one shared {@link AdaptiveSortStrategy},
+ * which picks the algorithm from the data being sorted; strategies keep no per-call
+ * state, so the instance is safe to share between concurrent callers. It is
+ * uninstrumented, so those calls report no comparison, swap or time statistics.
+ * {@link #topK} and {@link #selectKth} likewise share one {@link TopKSelector}.
+ * <p>
+ * Results of the {@code sortStudentsBy*} methods are kept in a {@link SortResultCache}
+ * keyed by criterion, algorithm and the repository's modification count, so asking
+ * again for an ordering while nothing has changed does not sort.
+ * <p>
+ * Mark statistics run {@link MarkKernels} over the repository's primitive mark
+ * column (SIMD when the Vector API is available) instead of streaming students.
  *
  * @author Soft Development ABK
  * @version 1.0
  */
-public record StudentService(StudentRepository studentRepository) {
+public record StudentService(StudentRepository studentRepository, SortResultCache sortResultCache) {
+    private static final MarkKernels MARK_KERNELS = MarkKernels.preferred();
+    private static final SortStrategy DEFAULT_SORT_STRATEGY =
+            new AdaptiveSortStrategy(Runtime.getRuntime().availableProcessors(), false);
+    private static final MergeJoinSearch BATCH_SEARCH = new MergeJoinSearch();
+    private static final TopKSelector TOP_K_SELECTOR = new TopKSelector();
+
     public StudentService() {
         this(new InMemoryStudentRepository());
     }
 
+    public StudentService(StudentRepository studentRepository) {
+        this(studentRepository, new SortResultCache());
+    }
+
     public StudentService {
         if (studentRepository == null) {
             throw new IllegalArgumentException("StudentRepository cannot be null");
         }
+        if (sortResultCache == null) {
+            throw new IllegalArgumentException("SortResultCache cannot be null");
+        }
     }
 
     public boolean addStudent(String id, String name, double mark) {
@@ -52,10 +95,36 @@ public record StudentService(StudentRepository studentRepository) {
         return studentRepository.find(id);
     }
 
+    /**
+     * Looks up many IDs with one merge-join against the repository's ID-sorted view,
+     * instead of one repository scan per ID. Matches keep the order of {@code ids};
+     * IDs without a student are reported as missing.
+     */
+    public BatchSearchResult<String, Student> findStudentsByIds(Collection<String> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("IDs cannot be null");
+        }
+
+        return BATCH_SEARCH.search(studentRepository.findAllSorted(StudentSortCriteria.ID, true),
+                Student::getId, ids, Comparator.naturalOrder());
+    }
+
     public List<Student> findAllStudents() {
         return studentRepository.findAll();
     }
 
+    /**
+     * Returns all students in the criterion's order, read from the repository's
+     * maintained sorted view instead of sorting.
+     */
+    public List<Student> findAllStudentsSorted(StudentSortCriteria criteria, boolean ascending) {
+        return studentRepository.findAllSorted(criteria, ascending);
+    }
+
+    public List<Student> findAllStudentsSorted(StudentSortCriteria criteria, boolean ascending, int limit) {
+        return studentRepository.findAllSorted(criteria, ascending, limit);
+    }
+
     public List<Student> findStudentsByRank(StudentRank rank) {
         if (rank == null) {
             throw new IllegalArgumentException("Rank cannot be null");
@@ -75,10 +144,34 @@ public record StudentService(StudentRepository studentRepository) {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Typo-tolerant name search: returns the students whose name has, for every word of
+     * the query, a word within {@code maxDistance} edits ("Jonson" finds "Johnson" at
+     * distance 1). Results are ranked by total distance, nearest first. The lookup uses
+     * the repository's incrementally maintained name index, not a scan of all students.
+     */
+    public List<NameMatch> findStudentsByNameFuzzy(String nameQuery, int maxDistance) {
+        if (nameQuery == null || nameQuery.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name query cannot be null or empty");
+        }
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Maximum distance cannot be negative");
+        }
+
+        return studentRepository.findByNameFuzzy(nameQuery, maxDistance);
+    }
+
     public int size() {
         return studentRepository.size();
     }
 
+    /**
+     * Returns the ID filter's metrics, or {@code null} if the repository is not filtered.
+     */
+    public MembershipFilterMetrics getMembershipFilterMetrics() {
+        return studentRepository instanceof FilteredStudentRepository filtered ? filtered.getMetrics() : null;
+    }
+
     public boolean isEmpty() {
         return studentRepository.isEmpty();
     }
@@ -129,6 +222,10 @@ public record StudentService(StudentRepository studentRepository) {
         return studentRepository.remove(id);
     }
 
+    public List<Student> sortStudents(Comparator<Student> comparator) {
+        return sortStudents(DEFAULT_SORT_STRATEGY, comparator);
+    }
+
     public List<Student> sortStudents(SortStrategy sortStrategy, Comparator<Student> comparator) {
         if (sortStrategy == null) {
             throw new IllegalArgumentException("Sort strategy cannot be null");
@@ -142,59 +239,224 @@ public record StudentService(StudentRepository studentRepository) {
         return students;
     }
 
-    private List<Student> sortStudents(SortStrategy sortStrategy, Comparator<Student> comparator, boolean ascending) {
-        if (!ascending) {
-            comparator = comparator.reversed();
-        }
+    public List<Student> sortStudentsById(boolean ascending) {
+        return sortStudentsById(DEFAULT_SORT_STRATEGY, ascending);
+    }
 
-        return sortStudents(sortStrategy, comparator);
+    public List<Student> sortStudentsByName(boolean ascending) {
+        return sortStudentsByName(DEFAULT_SORT_STRATEGY, ascending);
+    }
+
+    public List<Student> sortStudentsByIdNatural(boolean ascending) {
+        return sortStudentsByIdNatural(DEFAULT_SORT_STRATEGY, ascending);
+    }
+
+    public List<Student> sortStudentsByNameCollated(boolean ascending) {
+        return sortStudentsByNameCollated(DEFAULT_SORT_STRATEGY, ascending);
+    }
+
+    public List<Student> sortStudentsByMark(boolean ascending) {
+        return sortStudentsByMark(DEFAULT_SORT_STRATEGY, ascending);
+    }
+
+    public List<Student> sortStudentsByRank(boolean ascending) {
+        return sortStudentsByRank(DEFAULT_SORT_STRATEGY, ascending);
     }
 
     public List<Student> sortStudentsById(SortStrategy sortStrategy, boolean ascending) {
-        return sortStudents(sortStrategy, Comparator.comparing(Student::getId), ascending);
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.ID, ascending,
+                students -> sortStrategy.sortByStringKey(students, Student::getId, true));
     }
 
     public List<Student> sortStudentsByName(SortStrategy sortStrategy, boolean ascending) {
-        return sortStudents(sortStrategy, Comparator.comparing(Student::getName), ascending);
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.NAME, ascending,
+                students -> sortStrategy.sortByStringKey(students, Student::getName, true));
+    }
+
+    public List<Student> sortStudentsByIdNatural(SortStrategy sortStrategy, boolean ascending) {
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.ID_NATURAL, ascending,
+                students -> sortStrategy.sortByStringKey(students, Student::getNaturalIdKey, true));
+    }
+
+    public List<Student> sortStudentsByNameCollated(SortStrategy sortStrategy, boolean ascending) {
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.NAME_COLLATED, ascending,
+                students -> sortStrategy.sortByStringKey(students, Student::getNameCollationKey, true));
     }
 
     public List<Student> sortStudentsByMark(SortStrategy sortStrategy , boolean ascending) {
-        return sortStudents(sortStrategy, Comparator.comparing(Student::getMark), ascending);
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.MARK, ascending,
+                students -> sortStrategy.sortByDoubleKey(students, Student::getMark, true));
     }
 
     public List<Student> sortStudentsByRank(SortStrategy sortStrategy , boolean ascending) {
-        return sortStudents(sortStrategy, Comparator.comparing(Student::getRank), ascending);
+        // Rank order is declaration order, so the ordinal is an exact primitive key
+        return sortStudentsCached(sortStrategy, StudentSortCriteria.RANK, ascending,
+                students -> sortStrategy.sortByIntKey(students, student -> student.getRank().ordinal(), true));
+    }
+
+    /**
+     * Serves the ordering from the cache when the repository has not changed since it
+     * was computed with the same algorithm (the strategy's counters are then reset to
+     * zero, as no work was done). Otherwise sorts ascending, caches the result and
+     * derives the descending order from it.
+     */
+    private List<Student> sortStudentsCached(SortStrategy sortStrategy, StudentSortCriteria criteria,
+                                             boolean ascending, Consumer<List<Student>> ascendingSort) {
+        if (sortStrategy == null) {
+            throw new IllegalArgumentException("Sort strategy cannot be null");
+        }
+
+        long version = studentRepository.getModificationCount();
+
+        List<Student> cached = sortResultCache.get(criteria, sortStrategy.getAlgorithmName(), version, ascending);
+        if (cached != null) {
+            sortStrategy.resetCounters();
+            return cached;
+        }
+
+        List<Student> students = new ArrayList<>(studentRepository.findAll());
+        ascendingSort.accept(students);
+        sortResultCache.put(criteria, sortStrategy.getAlgorithmName(), version, students);
+
+        return ascending ? students : SortResultCache.descendingOf(students, criteria.getComparator());
+    }
+
+    /**
+     * Returns the first {@code k} students of the order {@code sortStudentsBy*} would
+     * produce for the criteria, without sorting the whole repository.
+     */
+    public List<Student> topK(StudentSortCriteria criteria, int k, boolean ascending) {
+        return topK(TOP_K_SELECTOR, criteria, k, ascending);
+    }
+
+    public List<Student> topK(TopKSelector selector, StudentSortCriteria criteria, int k, boolean ascending) {
+        validateSelection(selector, criteria);
+        return selector.topK(studentRepository.findAll(), criteria.getComparator(ascending), k);
+    }
+
+    /**
+     * Returns the student at zero-based position {@code k} of the sorted order
+     * (for example {@code size() / 2} for the median).
+     */
+    public Student selectKth(StudentSortCriteria criteria, int k, boolean ascending) {
+        return selectKth(TOP_K_SELECTOR, criteria, k, ascending);
+    }
+
+    public Student selectKth(TopKSelector selector, StudentSortCriteria criteria, int k, boolean ascending) {
+        validateSelection(selector, criteria);
+        return selector.selectKth(studentRepository.findAll(), criteria.getComparator(ascending), k);
+    }
+
+    private static void validateSelection(TopKSelector selector, StudentSortCriteria criteria) {
+        if (selector == null) {
+            throw new IllegalArgumentException("Selector cannot be null");
+        }
+        if (criteria == null) {
+            throw new IllegalArgumentException("Sort criteria cannot be null");
+        }
+    }
+
+    /**
+     * Sorts a stream of students that may be far larger than the heap, such as an
+     * archive export. Students are read in chunks of at most {@code memoryBudgetBytes},
+     * each chunk is sorted with {@code chunkStrategy} and spilled to {@code tempDirectory},
+     * and the runs are merged into {@code sink}. The repository is not involved.
+     *
+     * @return number of students written to the sink
+     */
+    public long sortStudentsExternally(Iterator<Student> source, Consumer<Student> sink,
+                                       SortStrategy chunkStrategy, Comparator<Student> comparator,
+                                       long memoryBudgetBytes, Path tempDirectory) throws IOException {
+        ExternalMergeSort<Student> externalSort = new ExternalMergeSort<>(
+                chunkStrategy, new StudentRecordCodec(), memoryBudgetBytes, tempDirectory);
+
+        return externalSort.sort(source, comparator, sink);
     }
 
     public double calculateAverageMark() {
-        List<Student> students = studentRepository.findAll();
-        if (students.isEmpty()) {
+        MarkColumn marks = studentRepository.getMarkColumn();
+        if (marks.isEmpty()) {
             return 0.0;
         }
 
-        return students.stream()
-                .mapToDouble(Student::getMark)
-                .average()
-                .orElse(0.0);
+        return MARK_KERNELS.sum(marks.values(), marks.length()) / marks.length();
     }
 
     public double getHighestMark() {
-        return studentRepository.findAll().stream()
-                .mapToDouble(Student::getMark)
-                .max()
-                .orElse(0.0);
+        MarkColumn marks = studentRepository.getMarkColumn();
+        return marks.isEmpty() ? 0.0 : MARK_KERNELS.max(marks.values(), marks.length());
     }
 
     public double getLowestMark() {
-        return studentRepository.findAll().stream()
-                .mapToDouble(Student::getMark)
-                .min()
-                .orElse(0.0);
+        MarkColumn marks = studentRepository.getMarkColumn();
+        return marks.isEmpty() ? 0.0 : MARK_KERNELS.min(marks.values(), marks.length());
     }
 
     public int countStudentsByRank(StudentRank rank) {
-        return (int) studentRepository.findAll().stream()
-                .filter(s -> s.getRank() == rank)
-                .count();
+        if (rank == null) {
+            return 0;
+        }
+
+        MarkColumn marks = studentRepository.getMarkColumn();
+        return MARK_KERNELS.countInRange(marks.values(), marks.length(), rank.getMinMark(), upperBound(rank));
+    }
+
+    /**
+     * Counts the students of every rank in a single pass over the mark column.
+     *
+     * @return counts indexed by {@link StudentRank#ordinal()}
+     */
+    public int[] countStudentsPerRank() {
+        StudentRank[] ranks = StudentRank.values();
+        double[] lowerBounds = new double[ranks.length];
+        for (StudentRank rank : ranks) {
+            lowerBounds[rank.ordinal()] = rank.getMinMark();
+        }
+
+        MarkColumn marks = studentRepository.getMarkColumn();
+        int[] counts = new int[ranks.length];
+        MARK_KERNELS.countByBucket(marks.values(), marks.length(), lowerBounds, counts);
+        return counts;
+    }
+
+    /**
+     * Returns the students with {@code minMark <= mark <= maxMark}, in repository order.
+     */
+    public List<Student> findStudentsByMarkRange(double minMark, double maxMark) {
+        for (double mark : new double[] {minMark, maxMark}) {
+            ValidationUtil.ValidationResult result = ValidationUtil.validateMark(mark);
+            if (!result.valid()) {
+                throw new IllegalArgumentException(result.errorMessage());
+            }
+        }
+        if (minMark > maxMark) {
+            throw new IllegalArgumentException("Minimum mark cannot be greater than maximum mark");
+        }
+
+        List<Student> students = studentRepository.findAll();
+        MarkColumn marks = studentRepository.getMarkColumn();
+        long[] selection = new long[(marks.length() + 63) >>> 6];
+        int count = MARK_KERNELS.filterRange(marks.values(), marks.length(), minMark, Math.nextUp(maxMark), selection);
+
+        List<Student> result = new ArrayList<>(count);
+        for (int word = 0; word < selection.length; word++) {
+            long bits = selection[word];
+            while (bits != 0) {
+                result.add(students.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    private static double upperBound(StudentRank rank) {
+        // The top rank includes its maximum mark
+        return rank.ordinal() == StudentRank.values().length - 1
+                ? Double.POSITIVE_INFINITY
+                : rank.getMaxMark();
+    }
+
+    public static MarkKernels getMarkKernels() {
+        return MARK_KERNELS;
     }
 }
@@ -2,4 +2,8 @@ package org.abk.student.management.system.shared.constant;
 
 public class AppConstant {
     public static final int SEPARATOR_SPACE = 50;
+    public static final int TOP_STUDENTS_LIMIT = 20;
+    public static final long SORT_TIME_BUDGET_MILLIS = 10_000;
+    public static final double ID_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    public static final int NAME_SEARCH_MAX_EDIT_DISTANCE = 2;
 }
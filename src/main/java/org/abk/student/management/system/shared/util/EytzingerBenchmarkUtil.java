@@ -0,0 +1,108 @@
+package org.abk.student.management.system.shared.util;
+
+import org.abk.student.management.system.algorithms.searching.BinarySearchStrategy;
+import org.abk.student.management.system.algorithms.searching.EytzingerSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.SearchStrategy;
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import de.vandermeer.asciitable.AsciiTable;
+import de.vandermeer.asciitable.CWC_LongestLine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Utility class for benchmarking Eytzinger search against binary search.
+ * <p>
+ * Students with unique, ascending numeric IDs are searched by ID at growing
+ * list sizes, from sizes that fit in the CPU caches to sizes that do not. Both
+ * strategies look up the same random IDs; the Eytzinger index is built before
+ * timing starts and its build time is shown separately.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class EytzingerBenchmarkUtil {
+    public static final int DEFAULT_MAX_SIZE = 1 << 21;
+    private static final int MIN_SIZE = 1 << 10;
+    private static final int LOOKUPS = 1 << 16;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private EytzingerBenchmarkUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void runBenchmark(int maxSize) {
+        if (maxSize < MIN_SIZE) {
+            throw new IllegalArgumentException("Maximum size must be at least " + MIN_SIZE);
+        }
+
+        ColorUtil.printInfo("Generating " + maxSize + " students with sequential IDs...");
+        List<Student> students = new ArrayList<>(maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            students.add(new Student(String.format("S%08d", i), "Student", (i % 101) / 10.0));
+        }
+
+        Comparator<Student> comparator = StudentSortCriteria.ID.getComparator();
+        Random random = new Random(42);
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("List Size", "Binary (ns/lookup)", "Eytzinger (ns/lookup)", "Speedup", "Index Build (ms)");
+        table.addRule();
+
+        for (int size = MIN_SIZE; size <= maxSize; size *= 4) {
+            List<Student> data = students.subList(0, size);
+            List<Student> targets = new ArrayList<>(LOOKUPS);
+            for (int i = 0; i < LOOKUPS; i++) {
+                targets.add(data.get(random.nextInt(size)));
+            }
+
+            SearchStrategy binary = new BinarySearchStrategy(false);
+            EytzingerSearchStrategy<Student> eytzinger = new EytzingerSearchStrategy<>(
+                    Student.class, student -> (long) SortKeyUtil.numericKey(student.getId()), false);
+
+            long buildStart = System.nanoTime();
+            eytzinger.prepare(data);
+            double buildMillis = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+            double binaryNanos = measure(binary, data, targets, comparator);
+            double eytzingerNanos = measure(eytzinger, data, targets, comparator);
+
+            table.addRow(size, String.format("%.1f", binaryNanos), String.format("%.1f", eytzingerNanos),
+                    String.format("%.2fx", binaryNanos / eytzingerNanos), String.format("%.1f", buildMillis));
+        }
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+    }
+
+    private static double measure(SearchStrategy strategy, List<Student> data, List<Student> targets,
+                                  Comparator<Student> comparator) {
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (Student target : targets) {
+                sink += strategy.searchIndex(data, target, comparator);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        for (Student target : targets) {
+            sink += strategy.searchIndex(data, target, comparator);
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        // Keep the results alive so the JIT cannot drop the searches
+        if (sink == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+
+        return (double) elapsed / targets.size();
+    }
+}
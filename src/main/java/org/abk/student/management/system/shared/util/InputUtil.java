@@ -1,18 +1,35 @@
 package org.abk.student.management.system.shared.util;
 
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.abk.student.management.system.shared.util.ValidationUtil.ValidationResult;
 
 /**
  * Utility class for handling user input from console.
  * Provides safe input reading with validation and error handling.
+ * <p>
+ * A single daemon thread owns the {@link Scanner} and queues every complete line the
+ * user enters. Reads take the next line from the queue, so {@link #consumePendingLine}
+ * can check for input without ever blocking, whatever the scanner has buffered and
+ * however much of a line has been typed so far.
  *
  * @author Soft Development ABK
  * @version 1.0
  */
 public class InputUtil {
     private static final Scanner scanner = new Scanner(System.in);
+    private static final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    // Compared by identity; queued once standard input is exhausted or closed
+    private static final String END_OF_INPUT = new String("");
+
+    static {
+        Thread reader = new Thread(InputUtil::readLines, "console-input");
+        reader.setDaemon(true);
+        reader.start();
+    }
 
     private InputUtil() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
@@ -20,7 +37,7 @@ public class InputUtil {
 
     public static String readString(String prompt) {
         System.out.print(prompt);
-        return scanner.nextLine().trim();
+        return nextLine().trim();
     }
 
     public static String readNonEmptyString(String prompt) {
@@ -38,7 +55,7 @@ public class InputUtil {
         while (true) {
             try {
                 System.out.print(prompt);
-                String input = scanner.nextLine().trim();
+                String input = nextLine().trim();
                 return Integer.parseInt(input);
             } catch (NumberFormatException e) {
                 ColorUtil.printError("Invalid number. Please enter a valid integer.");
@@ -60,7 +77,7 @@ public class InputUtil {
         while (true) {
             try {
                 System.out.print(prompt);
-                String input = scanner.nextLine().trim();
+                String input = nextLine().trim();
                 return Double.parseDouble(input);
             } catch (NumberFormatException e) {
                 ColorUtil.printError("Invalid number. Please enter a valid decimal number.");
@@ -87,7 +104,20 @@ public class InputUtil {
     public static void pressEnterToContinue() {
         ColorUtil.printSeparator();
         System.out.print("\nPress Enter to continue...");
-        scanner.nextLine();
+        nextLine();
+    }
+
+    /**
+     * Consumes and reports a line the user has already entered, without blocking when there is none.
+     */
+    public static boolean consumePendingLine() {
+        String line = lines.peek();
+        if (line == null || line == END_OF_INPUT) {
+            return false;
+        }
+
+        lines.poll();
+        return true;
     }
 
     public static void clearScreen() {
@@ -142,4 +172,32 @@ public class InputUtil {
     public static void closeScanner() {
         scanner.close();
     }
+
+    private static String nextLine() {
+        String line;
+        try {
+            line = lines.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for input", e);
+        }
+
+        if (line == END_OF_INPUT) {
+            // Leave the marker for any later read
+            lines.add(END_OF_INPUT);
+            throw new NoSuchElementException("No line found");
+        }
+        return line;
+    }
+
+    private static void readLines() {
+        try {
+            while (scanner.hasNextLine()) {
+                lines.add(scanner.nextLine());
+            }
+        } catch (IllegalStateException e) {
+            // Scanner was closed
+        }
+        lines.add(END_OF_INPUT);
+    }
 }
@@ -0,0 +1,131 @@
+package org.abk.student.management.system.shared.util;
+
+import org.abk.student.management.system.algorithms.searching.BinarySearchStrategy;
+import org.abk.student.management.system.algorithms.searching.LinearSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.SearchStrategy;
+import org.abk.student.management.system.algorithms.sorting.IntroSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.MergeSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.QuickSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+import org.abk.student.management.system.algorithms.sorting.TimSortStrategy;
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import de.vandermeer.asciitable.AsciiTable;
+import de.vandermeer.asciitable.CWC_LongestLine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Utility class for measuring the cost of sort and search instrumentation.
+ * <p>
+ * Every algorithm runs twice on the same synthetic students: once instrumented
+ * (counting comparator, swap counters, timing) and once uninstrumented (the
+ * caller's comparator, no counters, no clock). Sorts order a fresh copy by mark;
+ * searches look up every {@value #SEARCH_STRIDE}th ID of the ID-sorted list.
+ * After a warm-up, the table shows the average time per round and how much
+ * slower the instrumented run is.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class InstrumentationBenchmarkUtil {
+    public static final int DEFAULT_DATA_SIZE = 20_000;
+    private static final int SEARCH_STRIDE = 64;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private InstrumentationBenchmarkUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void runBenchmark(int dataSize) {
+        if (dataSize <= 0) {
+            throw new IllegalArgumentException("Data size must be positive");
+        }
+
+        List<Student> students = SpecializationBenchmarkUtil.generateStudents(dataSize);
+        Comparator<Student> byMark = StudentSortCriteria.MARK.getComparator(false);
+        Comparator<Student> byId = StudentSortCriteria.ID.getComparator();
+
+        List<Student> sortedById = new ArrayList<>(students);
+        sortedById.sort(byId);
+        List<Student> targets = new ArrayList<>();
+        for (int i = 0; i < sortedById.size(); i += SEARCH_STRIDE) {
+            targets.add(sortedById.get(i));
+        }
+
+        ColorUtil.printInfo("Sorting " + dataSize + " students and searching for " + targets.size() + " IDs...");
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("Algorithm", "Uninstrumented (ms)", "Instrumented (ms)", "Overhead");
+        table.addRule();
+
+        SortStrategy[][] sorts = {
+                {new QuickSortStrategy(false), new QuickSortStrategy(true)},
+                {new MergeSortStrategy(false), new MergeSortStrategy(true)},
+                {new IntroSortStrategy(false), new IntroSortStrategy(true)},
+                {new TimSortStrategy(false), new TimSortStrategy(true)}
+        };
+        for (SortStrategy[] pair : sorts) {
+            addRow(table, pair[0].getAlgorithmName(), strategy -> {
+                List<Student> copy = new ArrayList<>(students);
+                return strategy.sort(copy, byMark).size();
+            }, pair[0], pair[1]);
+        }
+
+        SearchStrategy[][] searches = {
+                {new LinearSearchStrategy(false), new LinearSearchStrategy(true)},
+                {new BinarySearchStrategy(false), new BinarySearchStrategy(true)}
+        };
+        for (SearchStrategy[] pair : searches) {
+            addRow(table, pair[0].getAlgorithmName(), strategy -> {
+                long found = 0;
+                for (Student target : targets) {
+                    found += strategy.searchIndex(sortedById, target, byId);
+                }
+                return found;
+            }, pair[0], pair[1]);
+        }
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+    }
+
+    private static <S> void addRow(AsciiTable table, String name, ToLongFunction<S> round, S plain, S instrumented) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.applyAsLong(plain);
+            round.applyAsLong(instrumented);
+        }
+
+        double plainMillis = 0;
+        double instrumentedMillis = 0;
+        long sink = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long startTime = System.nanoTime();
+            sink += round.applyAsLong(plain);
+            plainMillis += (System.nanoTime() - startTime) / 1_000_000.0;
+
+            startTime = System.nanoTime();
+            sink += round.applyAsLong(instrumented);
+            instrumentedMillis += (System.nanoTime() - startTime) / 1_000_000.0;
+        }
+
+        // Keep the results alive so the JIT cannot drop the calls
+        if (sink == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+
+        plainMillis /= MEASURED_ROUNDS;
+        instrumentedMillis /= MEASURED_ROUNDS;
+        table.addRow(name, String.format("%.2f", plainMillis), String.format("%.2f", instrumentedMillis),
+                String.format("%+.1f%%", (instrumentedMillis / plainMillis - 1) * 100));
+    }
+}
@@ -0,0 +1,119 @@
+package org.abk.student.management.system.shared.util;
+
+import org.abk.student.management.system.algorithms.kernels.MarkKernels;
+import org.abk.student.management.system.model.StudentRank;
+
+import de.vandermeer.asciitable.AsciiTable;
+import de.vandermeer.asciitable.CWC_LongestLine;
+
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Utility class for benchmarking the scalar and SIMD mark kernels.
+ * <p>
+ * Both implementations run every kernel over the same synthetic mark column
+ * (marks in steps of 0.1, like real input). Each kernel is warmed up so the JIT
+ * has compiled it, then timed over several repetitions; the table shows the
+ * average time per pass and the speedup of the preferred kernels over scalar.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class MarkKernelBenchmarkUtil {
+    public static final int DEFAULT_COLUMN_SIZE = 1_000_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private MarkKernelBenchmarkUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void runBenchmark(int columnSize) {
+        if (columnSize <= 0) {
+            throw new IllegalArgumentException("Column size must be positive");
+        }
+
+        MarkKernels scalar = MarkKernels.scalar();
+        MarkKernels preferred = MarkKernels.preferred();
+
+        ColorUtil.printInfo("Mark kernels: " + preferred.getName() + " (column of " + columnSize + " marks)");
+        if (preferred == scalar) {
+            ColorUtil.printWarning("Vector API not available; start the JVM with --add-modules jdk.incubator.vector.");
+        }
+
+        double[] marks = generateMarks(columnSize);
+        long[] selection = new long[(columnSize + 63) >>> 6];
+        double[] lowerBounds = new double[StudentRank.values().length];
+        for (StudentRank rank : StudentRank.values()) {
+            lowerBounds[rank.ordinal()] = rank.getMinMark();
+        }
+        int[] counts = new int[lowerBounds.length];
+
+        String[] operations = {"Sum", "Min", "Max", "Range Count", "Rank Buckets", "Range Filter"};
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("Kernel", "Scalar (µs)", preferred.getName() + " (µs)", "Speedup");
+        table.addRule();
+
+        for (int op = 0; op < operations.length; op++) {
+            int operation = op;
+            ToLongFunction<MarkKernels> kernel = kernels -> switch (operation) {
+                case 0 -> Double.doubleToLongBits(kernels.sum(marks, columnSize));
+                case 1 -> Double.doubleToLongBits(kernels.min(marks, columnSize));
+                case 2 -> Double.doubleToLongBits(kernels.max(marks, columnSize));
+                case 3 -> kernels.countInRange(marks, columnSize, 5.0, 7.5);
+                case 4 -> {
+                    kernels.countByBucket(marks, columnSize, lowerBounds, counts);
+                    yield counts[0];
+                }
+                default -> kernels.filterRange(marks, columnSize, 5.0, 7.5, selection);
+            };
+
+            double scalarMicros = measure(scalar, kernel);
+            double preferredMicros = measure(preferred, kernel);
+
+            table.addRow(
+                    operations[op],
+                    String.format("%.1f", scalarMicros),
+                    String.format("%.1f", preferredMicros),
+                    String.format("%.2fx", scalarMicros / preferredMicros)
+            );
+        }
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+    }
+
+    private static double measure(MarkKernels kernels, ToLongFunction<MarkKernels> kernel) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += kernel.applyAsLong(kernels);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += kernel.applyAsLong(kernels);
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        // Keep the results alive so the JIT cannot drop the kernel calls
+        if (sink == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+
+        return elapsed / 1000.0 / MEASURED_ROUNDS;
+    }
+
+    private static double[] generateMarks(int size) {
+        Random random = new Random(42);
+        double[] marks = new double[size];
+        for (int i = 0; i < size; i++) {
+            marks[i] = random.nextInt(101) / 10.0;
+        }
+        return marks;
+    }
+}
@@ -0,0 +1,113 @@
+package org.abk.student.management.system.shared.util;
+
+import org.abk.student.management.system.algorithms.searching.LinearSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.ParallelLinearSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.SearchStrategy;
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import de.vandermeer.asciitable.AsciiTable;
+import de.vandermeer.asciitable.CWC_LongestLine;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Utility class for finding where parallel linear search beats the sequential scan.
+ * <p>
+ * Both strategies search synthetic students for an ID that is not present (the
+ * worst case: every element is compared) at doubling list sizes. The parallel
+ * strategy runs with a cutoff of one element so it always forks. The first size
+ * from which the parallel search stays faster is reported as the measured cutoff,
+ * next to {@link ParallelLinearSearchStrategy#DEFAULT_SEQUENTIAL_CUTOFF}.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ParallelSearchBenchmarkUtil {
+    public static final int DEFAULT_MAX_SIZE = 1 << 20;
+    private static final int MIN_SIZE = 1 << 10;
+    private static final int ELEMENTS_PER_SIZE = 1 << 23;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private ParallelSearchBenchmarkUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void runBenchmark(int maxSize) {
+        if (maxSize < MIN_SIZE) {
+            throw new IllegalArgumentException("Maximum size must be at least " + MIN_SIZE);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        ColorUtil.printInfo("Searching up to " + maxSize + " students for a missing ID on "
+                + pool.getParallelism() + " worker(s)...");
+
+        List<Student> students = SpecializationBenchmarkUtil.generateStudents(maxSize);
+        Student missing = new Student("MISSING", "Missing", 0.0);
+        Comparator<Student> comparator = StudentSortCriteria.ID.getComparator();
+
+        SearchStrategy sequential = new LinearSearchStrategy(false);
+        SearchStrategy parallel = new ParallelLinearSearchStrategy(pool, 1, false);
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("List Size", "Sequential (µs)", "Parallel (µs)", "Speedup");
+        table.addRule();
+
+        int measuredCutoff = -1;
+        for (int size = MIN_SIZE; size <= maxSize; size *= 2) {
+            List<Student> data = students.subList(0, size);
+            int repetitions = Math.max(5, ELEMENTS_PER_SIZE / size);
+
+            double sequentialMicros = measure(sequential, data, missing, comparator, repetitions);
+            double parallelMicros = measure(parallel, data, missing, comparator, repetitions);
+
+            if (parallelMicros < sequentialMicros) {
+                if (measuredCutoff < 0) {
+                    measuredCutoff = size;
+                }
+            } else {
+                measuredCutoff = -1;
+            }
+
+            table.addRow(size, String.format("%.1f", sequentialMicros), String.format("%.1f", parallelMicros),
+                    String.format("%.2fx", sequentialMicros / parallelMicros));
+        }
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+
+        if (measuredCutoff < 0) {
+            ColorUtil.printWarning("Parallel search did not stay faster at any size on this machine.");
+        } else {
+            ColorUtil.printSuccess("Measured cutoff: " + measuredCutoff + " elements (default "
+                    + ParallelLinearSearchStrategy.DEFAULT_SEQUENTIAL_CUTOFF + ")");
+        }
+    }
+
+    private static double measure(SearchStrategy strategy, List<Student> data, Student target,
+                                  Comparator<Student> comparator, int repetitions) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS * repetitions; i++) {
+            sink += strategy.searchIndex(data, target, comparator);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) {
+            sink += strategy.searchIndex(data, target, comparator);
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        // Keep the results alive so the JIT cannot drop the searches
+        if (sink == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+
+        return elapsed / 1000.0 / repetitions;
+    }
+}
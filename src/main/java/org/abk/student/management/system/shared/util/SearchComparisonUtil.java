@@ -1,5 +1,8 @@
 package org.abk.student.management.system.shared.util;
 
+import org.abk.student.management.system.algorithms.searching.RangeSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.RangeStatistics;
+import org.abk.student.management.system.algorithms.searching.SearchStatistics;
 import org.abk.student.management.system.algorithms.searching.SearchStrategy;
 
 import de.vandermeer.asciitable.AsciiTable;
@@ -34,6 +37,17 @@ public class SearchComparisonUtil {
         private final boolean found;
         private final int index;
 
+        public SearchResult(SearchStrategy strategy, SearchStatistics statistics) {
+            this.algorithmName = statistics.algorithmName();
+            this.comparisons = statistics.comparisons();
+            this.executionTime = statistics.executionTime();
+            this.timeComplexity = strategy.getTimeComplexity();
+            this.spaceComplexity = strategy.getSpaceComplexity();
+            this.requiresSorted = strategy.requiresSortedList();
+            this.found = statistics.found();
+            this.index = statistics.index();
+        }
+
         public SearchResult(SearchStrategy strategy, boolean found, int index) {
             this.algorithmName = strategy.getAlgorithmName();
             this.comparisons = strategy.getComparisonCount();
@@ -64,10 +78,7 @@ public class SearchComparisonUtil {
         List<SearchResult> results = new ArrayList<>();
 
         for (SearchStrategy strategy : strategies) {
-            int index = strategy.searchIndex(data, target, comparator);
-            boolean found = index != -1;
-
-            results.add(new SearchResult(strategy, found, index));
+            results.add(new SearchResult(strategy, strategy.search(data, target, comparator)));
         }
 
         return results;
@@ -153,6 +164,54 @@ public class SearchComparisonUtil {
         }
     }
 
+    /**
+     * Runs every bound and range query of {@code strategy} on sorted {@code data} and shows
+     * them next to a linear scan for the same equal range.
+     */
+    public static <T> void displayRangeQueries(
+            List<T> data,
+            T target,
+            T low,
+            T high,
+            Comparator<T> comparator,
+            RangeSearchStrategy strategy) {
+
+        SearchStatistics lowerBound = strategy.lowerBound(data, target, comparator);
+        SearchStatistics upperBound = strategy.upperBound(data, target, comparator);
+        RangeStatistics equalRange = strategy.equalRange(data, target, comparator);
+        RangeStatistics between = strategy.rangeBetween(data, low, high, comparator);
+
+        long scanStart = System.currentTimeMillis();
+        int scanMatches = 0;
+        for (T element : data) {
+            if (comparator.compare(element, target) == 0) {
+                scanMatches++;
+            }
+        }
+        long scanTime = System.currentTimeMillis() - scanStart;
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("Operation", "Result", "Elements", "Comparisons", "Time (ms)");
+        table.addRule();
+        table.addRow("lowerBound", "index " + lowerBound.index(), "-", lowerBound.comparisons(),
+                lowerBound.executionTime());
+        table.addRow("upperBound", "index " + upperBound.index(), "-", upperBound.comparisons(),
+                upperBound.executionTime());
+        table.addRow("equalRange", equalRange.range(), equalRange.range().size(), equalRange.comparisons(),
+                equalRange.executionTime());
+        table.addRow("rangeBetween", between.range(), between.range().size(), between.comparisons(),
+                between.executionTime());
+        table.addRow("Linear scan (equal range)", "-", scanMatches, data.size(), scanTime);
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        ColorUtil.printHeader("RANGE QUERIES (" + strategy.getAlgorithmName() + ")");
+        System.out.println(table.render());
+    }
+
     public static void displayRecommendation(List<SearchResult> results, int dataSize, boolean isSorted) {
         ColorUtil.printHeader("RECOMMENDATION");
 
@@ -203,6 +262,15 @@ public class SearchComparisonUtil {
 
         ColorUtil.printBlankLine();
 
+        System.out.println(ColorUtil.bold("Parallel Linear Search:"));
+        System.out.println("  ✓ Works on unsorted lists, scanned on all cores");
+        System.out.println("  ✓ Stops every worker once a lower match is found");
+        System.out.println("  ✓ Same result as Linear Search (lowest matching index)");
+        System.out.println("  ✗ Still O(n) work; slower than sequential below the cutoff");
+        System.out.println("  Use: Large unsorted data on multi-core machines");
+
+        ColorUtil.printBlankLine();
+
         System.out.println(ColorUtil.bold("Binary Search:"));
         System.out.println("  ✓ Very fast (O(log n))");
         System.out.println("  ✓ Efficient for large datasets");
@@ -212,6 +280,33 @@ public class SearchComparisonUtil {
         System.out.println("  Use: Large sorted data, frequent searches");
 
         ColorUtil.printBlankLine();
+
+        System.out.println(ColorUtil.bold("Interpolation Search:"));
+        System.out.println("  ✓ Probes where the key should be (O(log log n) on uniform keys)");
+        System.out.println("  ✓ Falls back to binary steps on skewed keys (O(log n) worst case)");
+        System.out.println("  ✗ Requires sorted list and a numeric key");
+        System.out.println("  ✗ Reads two keys per probe");
+        System.out.println("  Use: Sequential numeric IDs, mark-sorted lists");
+
+        ColorUtil.printBlankLine();
+
+        System.out.println(ColorUtil.bold("Exponential Search:"));
+        System.out.println("  ✓ Touches only O(log i) elements for a target at index i");
+        System.out.println("  ✓ Works on sorted sources of unknown length (paged or streamed)");
+        System.out.println("  ✗ Requires sorted data");
+        System.out.println("  ✗ Up to twice the comparisons of binary search near the end");
+        System.out.println("  Use: Targets near the front, data read from disk page by page");
+
+        ColorUtil.printBlankLine();
+
+        System.out.println(ColorUtil.bold("Eytzinger Search:"));
+        System.out.println("  ✓ Primitive keys in BFS order: few cache misses, branchless descent");
+        System.out.println("  ✓ Faster than Binary Search once the data outgrows the caches");
+        System.out.println("  ✗ Needs an O(n) index built up front; unprepared lists use Binary Search");
+        System.out.println("  ✗ Requires a numeric key; the index must be rebuilt after changes");
+        System.out.println("  Use: Many lookups in a large list that rarely changes");
+
+        ColorUtil.printBlankLine();
     }
 
     public static <T> void runComprehensiveBenchmark(
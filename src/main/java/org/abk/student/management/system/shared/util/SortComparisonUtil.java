@@ -1,5 +1,7 @@
 package org.abk.student.management.system.shared.util;
 
+import org.abk.student.management.system.algorithms.sorting.ParallelMergeSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.SortStatistics;
 import org.abk.student.management.system.algorithms.sorting.SortStrategy;
 import de.vandermeer.asciitable.AsciiTable;
 import de.vandermeer.asciitable.CWC_LongestLine;
@@ -31,6 +33,15 @@ public class SortComparisonUtil {
         private final String timeComplexity;
         private final String spaceComplexity;
 
+        public SortResult(SortStrategy strategy, SortStatistics statistics) {
+            this.algorithmName = statistics.algorithmName();
+            this.comparisons = statistics.comparisons();
+            this.swaps = statistics.swaps();
+            this.executionTime = statistics.executionTime();
+            this.timeComplexity = strategy.getTimeComplexity();
+            this.spaceComplexity = strategy.getSpaceComplexity();
+        }
+
         public SortResult(SortStrategy strategy) {
             this.algorithmName = strategy.getAlgorithmName();
             this.comparisons = strategy.getComparisonCount();
@@ -58,9 +69,9 @@ public class SortComparisonUtil {
         for (SortStrategy strategy : strategies) {
             List<T> dataCopy = new ArrayList<>(originalData);
 
-            strategy.sort(dataCopy, comparator);
+            SortStatistics statistics = strategy.sort(dataCopy, comparator);
 
-            results.add(new SortResult(strategy));
+            results.add(new SortResult(strategy, statistics));
         }
 
         return results;
@@ -169,6 +180,8 @@ public class SortComparisonUtil {
                     " for fastest average case");
             System.out.println("  • " + ColorUtil.bold("Merge Sort") +
                     " for guaranteed O(n log n) performance");
+            System.out.println("  • " + ColorUtil.bold("Parallel Merge Sort") +
+                    " for datasets well above " + ParallelMergeSortStrategy.DEFAULT_SEQUENTIAL_CUTOFF + " elements");
             System.out.println("  • Avoid " + ColorUtil.bold("Bubble Sort") +
                     " - O(n²) is too slow");
         }
@@ -207,6 +220,41 @@ public class SortComparisonUtil {
         System.out.println("  ✗ Requires O(n) extra space");
         System.out.println("  Use: When stability required, external sorting");
 
+        System.out.println("\n" + ColorUtil.bold("Parallel Merge Sort:"));
+        System.out.println("  ✓ Uses every core of the machine (fork-join)");
+        System.out.println("  ✓ Stable (maintains order of equal elements)");
+        System.out.println("  ✓ Single O(n) buffer shared by all tasks");
+        System.out.println("  ✗ Task overhead outweighs the gain on small datasets");
+        System.out.println("  Use: Very large datasets on multi-core machines");
+
+        System.out.println("\n" + ColorUtil.bold("Intro Sort:"));
+        System.out.println("  ✓ Guaranteed O(n log n) (heap sort fallback)");
+        System.out.println("  ✓ Three-way partition handles duplicate keys in one pass");
+        System.out.println("  ✓ O(log n) stack depth");
+        System.out.println("  ✗ Not stable");
+        System.out.println("  Use: General purpose, duplicate-heavy or adversarial data");
+
+        System.out.println("\n" + ColorUtil.bold("Tim Sort:"));
+        System.out.println("  ✓ Adaptive: O(n) on sorted or reverse-sorted data");
+        System.out.println("  ✓ Stable (maintains order of equal elements)");
+        System.out.println("  ✓ Galloping merges skip long already-ordered blocks");
+        System.out.println("  ✗ Requires up to n/2 extra space");
+        System.out.println("  Use: Nearly sorted data, stable sorting");
+
+        System.out.println("\n" + ColorUtil.bold("Multikey Quick Sort:"));
+        System.out.println("  ✓ Examines each character of a string key about once");
+        System.out.println("  ✓ Shared prefixes (\"S0001...\") are not re-compared");
+        System.out.println("  ✓ Stable for string keys");
+        System.out.println("  ✗ Only string keys benefit; other keys use Intro Sort");
+        System.out.println("  Use: Sorting by ID or name on large datasets");
+
+        System.out.println("\n" + ColorUtil.bold("Adaptive Sort:"));
+        System.out.println("  ✓ Samples size, existing order, duplicates and key type");
+        System.out.println("  ✓ Dispatches to Tim, Multikey, Intro or Parallel Merge Sort");
+        System.out.println("  ✓ Reports which algorithm it chose and why");
+        System.out.println("  ✗ Small sampling cost on every sort");
+        System.out.println("  Use: Default choice when the data is not known in advance");
+
         ColorUtil.printBlankLine();
     }
 
@@ -0,0 +1,124 @@
+package org.abk.student.management.system.shared.util;
+
+import java.text.Collator;
+import java.util.Locale;
+
+/**
+ * Utility class for building precomputed sort keys.
+ * <p>
+ * Every key is a {@link String} whose plain {@link String#compareTo} order is the
+ * desired order, so a key is computed once per value and sorts then compare the
+ * keys directly (or character by character with a string-specialised strategy). <br/>
+ * - Collation keys: locale-aware order of the default locale, ignoring case
+ * (secondary strength, canonical decomposition so accented names compare correctly) <br/>
+ * - Natural-order keys: digit runs compare by numeric value, so "S2" sorts before "S10"
+ * <p>
+ * Numeric keys are the exception: a {@code double} that estimates where a value lies
+ * in its order, used to place interpolation search probes.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SortKeyUtil {
+    // Digit runs are encoded as DIGIT_MARK, significant digit count, significant digits
+    private static final char DIGIT_MARK = '0';
+
+    private static final Collator NAME_COLLATOR = createNameCollator();
+
+    private SortKeyUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static Collator createNameCollator() {
+        Collator collator = Collator.getInstance(Locale.getDefault());
+        collator.setStrength(Collator.SECONDARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    /**
+     * Returns a key ordered like the name collator: {@code collationKey(a).compareTo(collationKey(b))}
+     * has the sign of {@code collator.compare(a, b)}.
+     */
+    public static String collationKey(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        byte[] bytes;
+        synchronized (NAME_COLLATOR) {
+            bytes = NAME_COLLATOR.getCollationKey(text).toByteArray();
+        }
+
+        // Pack the big-endian bytes two per char; unsigned order is preserved
+        char[] key = new char[(bytes.length + 1) / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int shift = (i & 1) == 0 ? 8 : 0;
+            key[i / 2] |= (char) ((bytes[i] & 0xFF) << shift);
+        }
+
+        return new String(key);
+    }
+
+    /**
+     * Returns a key in which every run of ASCII digits compares by numeric value
+     * (leading zeros ignored) and all other characters compare as they are.
+     */
+    public static String naturalOrderKey(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        StringBuilder key = new StringBuilder(text.length() + 4);
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+            if (!isAsciiDigit(c)) {
+                key.append(c);
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < length && isAsciiDigit(text.charAt(i))) {
+                i++;
+            }
+
+            int significant = start;
+            while (significant < i - 1 && text.charAt(significant) == '0') {
+                significant++;
+            }
+
+            // A longer number is a larger number, so the digit count decides first
+            key.append(DIGIT_MARK).append((char) (i - significant)).append(text, significant, i);
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Returns the number formed by all ASCII digits of the text ("S0042" gives 42),
+     * or 0 if there are none. For IDs of one fixed format the key grows with the ID.
+     */
+    public static double numericKey(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+
+        double key = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isAsciiDigit(c)) {
+                key = key * 10 + (c - '0');
+            }
+        }
+
+        return key;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,132 @@
+package org.abk.student.management.system.shared.util;
+
+import org.abk.student.management.system.algorithms.sorting.IntroSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+import org.abk.student.management.system.algorithms.sorting.SpecializedIntroSortStrategy;
+import org.abk.student.management.system.model.Student;
+import org.abk.student.management.system.model.StudentSortCriteria;
+
+import de.vandermeer.asciitable.AsciiTable;
+import de.vandermeer.asciitable.CWC_LongestLine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Utility class for benchmarking generic against comparator-specialised sorting.
+ * <p>
+ * Both strategies sort the same synthetic students by every criterion in both
+ * directions, rotating through the comparators so that the generic Intro Sort
+ * loop sees all of them (a megamorphic {@code compare} call site), while the
+ * specialised strategy gives each comparator its own kernel. After a warm-up
+ * pass, the table shows the average time per sort for each comparator.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class SpecializationBenchmarkUtil {
+    public static final int DEFAULT_DATA_SIZE = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private SpecializationBenchmarkUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void runBenchmark(int dataSize) {
+        if (dataSize <= 0) {
+            throw new IllegalArgumentException("Data size must be positive");
+        }
+
+        List<Student> students = generateStudents(dataSize);
+        List<String> labels = new ArrayList<>();
+        List<Comparator<Student>> comparators = new ArrayList<>();
+        for (StudentSortCriteria criteria : StudentSortCriteria.values()) {
+            for (boolean ascending : new boolean[] {true, false}) {
+                labels.add(criteria.getDisplayName() + (ascending ? " ↑" : " ↓"));
+                comparators.add(criteria.getComparator(ascending));
+            }
+        }
+
+        ColorUtil.printInfo("Sorting " + dataSize + " students with " + comparators.size() + " comparators...");
+
+        SortStrategy generic = new IntroSortStrategy();
+        SortStrategy specialized = new SpecializedIntroSortStrategy();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            measureRound(generic, students, comparators);
+            measureRound(specialized, students, comparators);
+        }
+
+        double[] genericMillis = new double[comparators.size()];
+        double[] specializedMillis = new double[comparators.size()];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            accumulate(genericMillis, measureRound(generic, students, comparators));
+            accumulate(specializedMillis, measureRound(specialized, students, comparators));
+        }
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("Comparator", "Generic (ms)", "Specialized (ms)", "Speedup");
+        table.addRule();
+
+        double genericTotal = 0;
+        double specializedTotal = 0;
+        for (int i = 0; i < comparators.size(); i++) {
+            double before = genericMillis[i] / MEASURED_ROUNDS;
+            double after = specializedMillis[i] / MEASURED_ROUNDS;
+            genericTotal += before;
+            specializedTotal += after;
+
+            table.addRow(labels.get(i), String.format("%.2f", before), String.format("%.2f", after),
+                    String.format("%.2fx", before / after));
+        }
+        table.addRule();
+        table.addRow("Total", String.format("%.2f", genericTotal), String.format("%.2f", specializedTotal),
+                String.format("%.2fx", genericTotal / specializedTotal));
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+        ColorUtil.printInfo("Specialized kernels defined: " + SpecializedIntroSortStrategy.getSpecializationCount());
+    }
+
+    private static double[] measureRound(SortStrategy strategy, List<Student> students,
+                                         List<Comparator<Student>> comparators) {
+        double[] millis = new double[comparators.size()];
+
+        for (int i = 0; i < comparators.size(); i++) {
+            List<Student> copy = new ArrayList<>(students);
+            long startTime = System.nanoTime();
+            strategy.sort(copy, comparators.get(i));
+            millis[i] = (System.nanoTime() - startTime) / 1_000_000.0;
+        }
+
+        return millis;
+    }
+
+    private static void accumulate(double[] total, double[] round) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] += round[i];
+        }
+    }
+
+    static List<Student> generateStudents(int size) {
+        String[] firstNames = {"Alice", "Bob", "Charlie", "Diana", "Ethan", "Fiona", "George", "Hannah"};
+        String[] lastNames = {"Johnson", "Smith", "Brown", "Prince", "Hunt", "Green", "Wilson", "Lee"};
+        Random random = new Random(42);
+
+        List<Student> students = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = firstNames[random.nextInt(firstNames.length)] + " "
+                    + lastNames[random.nextInt(lastNames.length)];
+            students.add(new Student(String.format("S%07d", random.nextInt(size * 10)), name,
+                    random.nextInt(101) / 10.0));
+        }
+        return students;
+    }
+}
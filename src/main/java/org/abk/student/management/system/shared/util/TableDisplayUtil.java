@@ -1,7 +1,9 @@
 package org.abk.student.management.system.shared.util;
 
+import org.abk.student.management.system.model.NameMatch;
 import org.abk.student.management.system.model.Student;
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.repository.MembershipFilterMetrics;
 import de.vandermeer.asciitable.AsciiTable;
 import de.vandermeer.asciitable.CWC_LongestLine;
 import de.vandermeer.skb.interfaces.transformers.textformat.TextAlignment;
@@ -50,6 +52,37 @@ public class TableDisplayUtil {
         System.out.println(table.render());
     }
 
+    public static void displayNameMatches(List<NameMatch> matches) {
+        if (matches == null || matches.isEmpty()) {
+            ColorUtil.printWarning("No students to display.");
+            return;
+        }
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("ID", "Name", "Mark", "Rank", "Edits");
+        table.addRule();
+
+        for (NameMatch match : matches) {
+            Student student = match.student();
+            table.addRow(
+                student.getId(),
+                student.getName(),
+                student.getMark(),
+                student.getRank(),
+                match.distance()
+            );
+        }
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        table.setTextAlignment(TextAlignment.LEFT);
+
+        System.out.println(table.render());
+    }
+
     public static void displayStudent(Student student) {
         if (student == null) {
             ColorUtil.printWarning("No student to display.");
@@ -144,11 +177,12 @@ public class TableDisplayUtil {
         double highestMark = studentService.getHighestMark();
         double lowestMark = studentService.getLowestMark();
 
-        int failCount = studentService.findStudentsByRank(StudentRank.FAIL).size();
-        int mediumCount = studentService.findStudentsByRank(StudentRank.MEDIUM).size();
-        int goodCount = studentService.findStudentsByRank(StudentRank.GOOD).size();
-        int veryGoodCount = studentService.findStudentsByRank(StudentRank.VERY_GOOD).size();
-        int excellentCount = studentService.findStudentsByRank(StudentRank.EXCELLENT).size();
+        int[] rankCounts = studentService.countStudentsPerRank();
+        int failCount = rankCounts[StudentRank.FAIL.ordinal()];
+        int mediumCount = rankCounts[StudentRank.MEDIUM.ordinal()];
+        int goodCount = rankCounts[StudentRank.GOOD.ordinal()];
+        int veryGoodCount = rankCounts[StudentRank.VERY_GOOD.ordinal()];
+        int excellentCount = rankCounts[StudentRank.EXCELLENT.ordinal()];
 
         AsciiTable table = new AsciiTable();
 
@@ -171,4 +205,33 @@ public class TableDisplayUtil {
 
         System.out.println(table.render());
     }
+
+    public static void displayMembershipFilterMetrics(MembershipFilterMetrics metrics) {
+        if (metrics == null) {
+            ColorUtil.printWarning("No membership filter in use.");
+            return;
+        }
+
+        AsciiTable table = new AsciiTable();
+
+        table.addRule();
+        table.addRow("ID Filter", "Value");
+        table.addRule();
+        table.addRow("IDs in Filter", metrics.keys());
+        table.addRow("Load Factor", String.format("%.1f%%", metrics.loadFactor() * 100));
+        table.addRow("Memory", String.format("%.1f KB", metrics.memoryBytes() / 1024.0));
+        table.addRow("Configured False Positive Rate", String.format("%.3f%%", metrics.falsePositiveRate() * 100));
+        table.addRule();
+        table.addRow("Lookups", metrics.lookups());
+        table.addRow("Answered by Filter (Absent)", String.format("%d (%.1f%%)",
+                metrics.definitelyAbsent(), metrics.filteredRatio() * 100));
+        table.addRow("False Positives", metrics.falsePositives());
+        table.addRow("Observed False Positive Rate", String.format("%.3f%%", metrics.observedFalsePositiveRate() * 100));
+        table.addRow("Rebuilds", metrics.rebuilds());
+        table.addRule();
+
+        table.getRenderer().setCWC(new CWC_LongestLine());
+
+        System.out.println(table.render());
+    }
 }
@@ -0,0 +1,53 @@
+package org.abk.student.management.system.ui;
+
+import org.abk.student.management.system.algorithms.sorting.SortExecutor.ProgressListener;
+import org.abk.student.management.system.shared.util.InputUtil;
+
+/**
+ * Console progress bar for a running sort.
+ * <p>
+ * Redraws a single line in place, e.g. <br/>
+ * {@code Bubble Sort [############..................]  40%  1.2s  (press Enter to cancel)} <br/>
+ * The percentage is comparisons so far against the strategy's estimate and stays
+ * below 100% until the sort has actually finished, since the estimate can be low.
+ * Pressing Enter while the bar is shown requests cancellation.
+ *
+ * @author Soft Development ABK
+ * @version 1.0
+ */
+public class ConsoleSortProgress implements ProgressListener {
+    private static final int BAR_WIDTH = 30;
+    private static final int MAX_RUNNING_PERCENT = 99;
+
+    private int lastLineLength;
+
+    @Override
+    public void onProgress(String algorithmName, long comparisons, long estimatedComparisons, long elapsedMillis) {
+        int percent = estimatedComparisons <= 0
+                ? 0
+                : (int) Math.min(MAX_RUNNING_PERCENT, comparisons * 100 / estimatedComparisons);
+        int filled = percent * BAR_WIDTH / 100;
+
+        String line = String.format("%s [%s%s] %3d%%  %.1fs  (press Enter to cancel)",
+                algorithmName, "#".repeat(filled), ".".repeat(BAR_WIDTH - filled),
+                percent, elapsedMillis / 1000.0);
+
+        System.out.print("\r" + line);
+        System.out.flush();
+        lastLineLength = line.length();
+    }
+
+    @Override
+    public boolean isCancelRequested() {
+        return InputUtil.consumePendingLine();
+    }
+
+    @Override
+    public void onFinished() {
+        if (lastLineLength > 0) {
+            System.out.print("\r" + " ".repeat(lastLineLength) + "\r");
+            System.out.flush();
+            lastLineLength = 0;
+        }
+    }
+}
@@ -1,17 +1,33 @@
 package org.abk.student.management.system.ui;
 
+import org.abk.student.management.system.algorithms.searching.BatchSearchResult;
 import org.abk.student.management.system.algorithms.searching.BinarySearchStrategy;
+import org.abk.student.management.system.algorithms.searching.ExponentialSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.EytzingerSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.InterpolationSearchStrategy;
 import org.abk.student.management.system.algorithms.searching.LinearSearchStrategy;
+import org.abk.student.management.system.algorithms.searching.ParallelLinearSearchStrategy;
 import org.abk.student.management.system.algorithms.searching.SearchStrategy;
+import org.abk.student.management.system.algorithms.sorting.AdaptiveSortStrategy;
 import org.abk.student.management.system.algorithms.sorting.BubbleSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.IntroSortStrategy;
 import org.abk.student.management.system.algorithms.sorting.MergeSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.MultiKeyQuickSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.ParallelMergeSortStrategy;
 import org.abk.student.management.system.algorithms.sorting.QuickSortStrategy;
+import org.abk.student.management.system.algorithms.sorting.SortExecutor;
 import org.abk.student.management.system.algorithms.sorting.SortStrategy;
+import org.abk.student.management.system.algorithms.sorting.TimSortStrategy;
+import org.abk.student.management.system.model.NameMatch;
 import org.abk.student.management.system.model.Student;
 import org.abk.student.management.system.model.StudentRank;
+import org.abk.student.management.system.model.StudentSortCriteria;
+import org.abk.student.management.system.repository.MembershipFilterMetrics;
 import org.abk.student.management.system.services.StudentService;
+import org.abk.student.management.system.shared.constant.AppConstant;
 import org.abk.student.management.system.shared.util.*;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -266,16 +282,18 @@ public class ConsoleUI {
         System.out.println("1. Student ID");
         System.out.println("2. Student Name");
         System.out.println("3. Student Rank");
-        System.out.println("4. Back to Main Menu");
+        System.out.println("4. Several Student IDs (batch lookup)");
+        System.out.println("5. Back to Main Menu");
 
         ColorUtil.printBlankLine();
-        int choice = InputUtil.readMenuChoice("Enter choice: ", 4);
+        int choice = InputUtil.readMenuChoice("Enter choice: ", 5);
 
         switch (choice) {
             case 1 -> searchById();
             case 2 -> searchByName();
             case 3 -> searchByRank();
-            case 4 -> {}
+            case 4 -> searchByIds();
+            case 5 -> {}
         }
     }
 
@@ -294,6 +312,28 @@ public class ConsoleUI {
         InputUtil.pressEnterToContinue();
     }
 
+    private void searchByIds() {
+        String input = InputUtil.readNonEmptyString("Enter Student IDs (separated by commas or spaces): ");
+        List<String> ids = Arrays.stream(input.split("[,\\s]+"))
+                .filter(id -> !id.isEmpty())
+                .toList();
+
+        BatchSearchResult<String, Student> result = studentService.findStudentsByIds(ids);
+        List<Student> students = result.found();
+
+        if (!students.isEmpty()) {
+            ColorUtil.printSuccess("Found " + students.size() + " of " + ids.size() + " student(s)!");
+            ColorUtil.printBlankLine();
+            TableDisplayUtil.displayStudents(students);
+        }
+
+        if (!result.allFound()) {
+            ColorUtil.printWarning("Not found: " + String.join(", ", result.missingKeys()));
+        }
+
+        InputUtil.pressEnterToContinue();
+    }
+
     private void searchByName() {
         String nameQuery = InputUtil.readNonEmptyString("Enter name (or part of name): ");
         List<Student> students = studentService.findStudentsByName(nameQuery);
@@ -302,6 +342,17 @@ public class ConsoleUI {
             ColorUtil.printSuccess("Found " + students.size() + " student(s)!");
             ColorUtil.printBlankLine();
             TableDisplayUtil.displayStudents(students);
+            InputUtil.pressEnterToContinue();
+            return;
+        }
+
+        // No exact match: the name may be misspelled
+        List<NameMatch> matches = studentService.findStudentsByNameFuzzy(nameQuery,
+                AppConstant.NAME_SEARCH_MAX_EDIT_DISTANCE);
+        if (!matches.isEmpty()) {
+            ColorUtil.printWarning("No exact match. Found " + matches.size() + " similar name(s), closest first:");
+            ColorUtil.printBlankLine();
+            TableDisplayUtil.displayNameMatches(matches);
         } else {
             ColorUtil.printError("No students found with that name.");
         }
@@ -349,11 +400,13 @@ public class ConsoleUI {
         System.out.println("2. Student Name");
         System.out.println("3. Student Mark");
         System.out.println("4. Student Rank");
-        System.out.println("5. Back to Main Menu");
+        System.out.println("5. Student ID (natural order: S2 before S10)");
+        System.out.println("6. Student Name (locale-aware, ignoring case)");
+        System.out.println("7. Back to Main Menu");
 
         ColorUtil.printBlankLine();
-        int criteria = InputUtil.readMenuChoice("Enter choice: ", 5);
-        if (criteria == 5) {
+        int criteria = InputUtil.readMenuChoice("Enter choice: ", 7);
+        if (criteria == 7) {
             InputUtil.pressEnterToContinue();
             return;
         }
@@ -363,9 +416,14 @@ public class ConsoleUI {
         System.out.println("1. Bubble Sort (O(n²) - Simple)");
         System.out.println("2. Quick Sort (O(n log n) - Fast)");
         System.out.println("3. Merge Sort (O(n log n) - Stable)");
+        System.out.println("4. Parallel Merge Sort (O(n log n) - Stable, Multi-core)");
+        System.out.println("5. Intro Sort (O(n log n) worst case - Duplicate-friendly)");
+        System.out.println("6. Tim Sort (O(n) on presorted data - Stable, Adaptive)");
+        System.out.println("7. Multikey Quick Sort (Character-wise - Best for ID and Name)");
+        System.out.println("8. Adaptive Sort (Picks the algorithm from the data - Recommended)");
 
         ColorUtil.printBlankLine();
-        int algorithm = InputUtil.readMenuChoice("Enter choice: ", 3);
+        int algorithm = InputUtil.readMenuChoice("Enter choice: ", 8);
 
         ColorUtil.printBlankLine();
         ColorUtil.printInfo("Choose sorting order:");
@@ -379,25 +437,56 @@ public class ConsoleUI {
         SortStrategy strategy = switch (algorithm) {
             case 1 -> new BubbleSortStrategy();
             case 2 -> new QuickSortStrategy();
-            default -> new MergeSortStrategy();
+            case 3 -> new MergeSortStrategy();
+            case 4 -> new ParallelMergeSortStrategy();
+            case 5 -> new IntroSortStrategy();
+            case 6 -> new TimSortStrategy();
+            case 7 -> new MultiKeyQuickSortStrategy();
+            default -> new AdaptiveSortStrategy();
         };
 
         ColorUtil.printBlankLine();
         ColorUtil.printInfo("Sorting with " + strategy.getAlgorithmName() + "...");
 
-        List<Student> sorted = switch (criteria) {
-            case 1 -> studentService.sortStudentsById(strategy, ascending);
-            case 2 -> studentService.sortStudentsByName(strategy, ascending);
-            case 3 -> studentService.sortStudentsByMark(strategy, ascending);
-            default -> studentService.sortStudentsByRank(strategy, ascending);
-        };
+        long cacheHitsBefore = studentService.sortResultCache().getHitCount();
+
+        // Long sorts can be cancelled; past the budget they are finished with Tim Sort instead
+        SortExecutor executor = new SortExecutor(AppConstant.SORT_TIME_BUDGET_MILLIS, new TimSortStrategy());
+        SortExecutor.Outcome<List<Student>> outcome = executor.execute(strategy, studentService.size(),
+                sorter -> switch (criteria) {
+                    case 1 -> studentService.sortStudentsById(sorter, ascending);
+                    case 2 -> studentService.sortStudentsByName(sorter, ascending);
+                    case 3 -> studentService.sortStudentsByMark(sorter, ascending);
+                    case 4 -> studentService.sortStudentsByRank(sorter, ascending);
+                    case 5 -> studentService.sortStudentsByIdNatural(sorter, ascending);
+                    default -> studentService.sortStudentsByNameCollated(sorter, ascending);
+                },
+                new ConsoleSortProgress());
+
+        if (!outcome.isCompleted()) {
+            ColorUtil.printWarning("Sort cancelled after " + outcome.elapsedMillis() + " ms. The list was not changed.");
+            InputUtil.pressEnterToContinue();
+            return;
+        }
+
+        if (outcome.status() == SortExecutor.Status.FALLBACK_COMPLETED) {
+            ColorUtil.printWarning(strategy.getAlgorithmName() + " exceeded the "
+                    + AppConstant.SORT_TIME_BUDGET_MILLIS / 1000 + "s budget; finished with "
+                    + outcome.strategy().getAlgorithmName() + ".");
+        }
+
+        List<Student> sorted = outcome.value();
 
         ColorUtil.printSuccess("Sorted successfully!");
         ColorUtil.printBlankLine();
         TableDisplayUtil.displayStudents(sorted);
 
         ColorUtil.printBlankLine();
-        ColorUtil.printInfo("Performance: " + strategy);
+        if (studentService.sortResultCache().getHitCount() > cacheHitsBefore) {
+            ColorUtil.printInfo("Served from cache: no students changed since the last identical sort.");
+        } else {
+            ColorUtil.printInfo("Performance: " + outcome.strategy());
+        }
 
         InputUtil.pressEnterToContinue();
     }
@@ -417,12 +506,27 @@ public class ConsoleUI {
         ColorUtil.printInfo("Students by rank:");
         TableDisplayUtil.displayStudentsByRank(studentService.findAllStudents());
 
+        MembershipFilterMetrics filterMetrics = studentService.getMembershipFilterMetrics();
+        if (filterMetrics != null) {
+            ColorUtil.printBlankLine();
+            ColorUtil.printInfo("Student ID filter:");
+            TableDisplayUtil.displayMembershipFilterMetrics(filterMetrics);
+        }
+
         InputUtil.pressEnterToContinue();
     }
 
     private void viewRankingTable() {
         ColorUtil.printHeader("STUDENT RANKING TABLE");
         TableDisplayUtil.displayRankingTable();
+
+        if (!studentService.isEmpty()) {
+            ColorUtil.printBlankLine();
+            ColorUtil.printInfo("Top " + AppConstant.TOP_STUDENTS_LIMIT + " students by mark:");
+            TableDisplayUtil.displayStudents(
+                    studentService.findAllStudentsSorted(StudentSortCriteria.MARK, false, AppConstant.TOP_STUDENTS_LIMIT));
+        }
+
         InputUtil.pressEnterToContinue();
     }
 
@@ -438,16 +542,26 @@ public class ConsoleUI {
         ColorUtil.printInfo("Choose comparison type:");
         System.out.println("1. Sorting Algorithms");
         System.out.println("2. Searching Algorithms");
-        System.out.println("3. Back to Main Menu");
+        System.out.println("3. Mark Kernels (Scalar vs SIMD)");
+        System.out.println("4. Comparator Specialization (Generic vs Per-comparator kernels)");
+        System.out.println("5. Instrumentation Overhead (Uninstrumented vs Instrumented)");
+        System.out.println("6. Parallel Linear Search (Sequential vs Fork-join cutoff)");
+        System.out.println("7. Eytzinger Index (Binary Search vs Cache-friendly layout)");
+        System.out.println("8. Back to Main Menu");
 
         ColorUtil.printBlankLine();
-        int choice = InputUtil.readMenuChoice("Enter choice: ", 3);
+        int choice = InputUtil.readMenuChoice("Enter choice: ", 8);
         InputUtil.pressEnterToContinue();
 
         switch (choice) {
             case 1 -> compareSortingAlgorithms();
             case 2 -> compareSearchingAlgorithms();
-            case 3 -> {}
+            case 3 -> compareMarkKernels();
+            case 4 -> compareComparatorSpecialization();
+            case 5 -> compareInstrumentationOverhead();
+            case 6 -> compareParallelLinearSearch();
+            case 7 -> compareEytzingerSearch();
+            case 8 -> {}
         }
     }
 
@@ -457,7 +571,11 @@ public class ConsoleUI {
         SortStrategy[] strategies = {
                 new BubbleSortStrategy(),
                 new QuickSortStrategy(),
-                new MergeSortStrategy()
+                new MergeSortStrategy(),
+                new ParallelMergeSortStrategy(),
+                new IntroSortStrategy(),
+                new TimSortStrategy(),
+                new AdaptiveSortStrategy()
         };
 
         Comparator<Student> comparator = Comparator.comparingDouble(Student::getMark).reversed();
@@ -476,17 +594,67 @@ public class ConsoleUI {
             target = new Student(id, "Test", 5.0);
         }
 
-        List<Student> students = studentService.sortStudentsById(new QuickSortStrategy(), true);
+        // Interpolation and Eytzinger search read the number in the ID, whose order differs
+        // from string order ("S1000" < "S10000" < "S1001"), so every strategy searches the
+        // repository's view sorted by that number
+        Comparator<Student> comparator = StudentSortCriteria.ID_NUMERIC.getComparator();
+        List<Student> students = studentService.findAllStudentsSorted(StudentSortCriteria.ID_NUMERIC, true);
+
+        EytzingerSearchStrategy<Student> eytzinger =
+                new EytzingerSearchStrategy<>(Student.class, student -> (long) SortKeyUtil.numericKey(student.getId()));
+        eytzinger.prepare(students);
 
         SearchStrategy[] strategies = {
                 new LinearSearchStrategy(),
-                new BinarySearchStrategy()
+                new ParallelLinearSearchStrategy(),
+                new BinarySearchStrategy(),
+                new InterpolationSearchStrategy<>(Student.class, student -> SortKeyUtil.numericKey(student.getId())),
+                new ExponentialSearchStrategy(),
+                eytzinger
         };
 
-        Comparator<Student> comparator = Comparator.comparing(Student::getId);
-
         SearchComparisonUtil.runComprehensiveBenchmark(students, target, comparator, true, strategies);
 
+        // Marks repeat, so range queries find whole blocks of students
+        List<Student> studentsByMark = studentService.findAllStudentsSorted(StudentSortCriteria.MARK, true);
+        double mark = target.getMark();
+        Student low = new Student(id, "Low", Math.max(ValidationUtil.MIN_MARK, mark - 1));
+        Student high = new Student(id, "High", Math.min(ValidationUtil.MAX_MARK, mark + 1));
+        ColorUtil.printInfo(String.format("Range queries on marks: equal to %.1f, between %.1f and %.1f",
+                mark, low.getMark(), high.getMark()));
+        SearchComparisonUtil.displayRangeQueries(studentsByMark, target, low, high,
+                StudentSortCriteria.MARK.getComparator(), new BinarySearchStrategy());
+
+        InputUtil.pressEnterToContinue();
+    }
+
+    private void compareMarkKernels() {
+        ColorUtil.printHeader("MARK KERNEL BENCHMARK");
+        MarkKernelBenchmarkUtil.runBenchmark(MarkKernelBenchmarkUtil.DEFAULT_COLUMN_SIZE);
+        InputUtil.pressEnterToContinue();
+    }
+
+    private void compareComparatorSpecialization() {
+        ColorUtil.printHeader("COMPARATOR SPECIALIZATION BENCHMARK");
+        SpecializationBenchmarkUtil.runBenchmark(SpecializationBenchmarkUtil.DEFAULT_DATA_SIZE);
+        InputUtil.pressEnterToContinue();
+    }
+
+    private void compareInstrumentationOverhead() {
+        ColorUtil.printHeader("INSTRUMENTATION OVERHEAD BENCHMARK");
+        InstrumentationBenchmarkUtil.runBenchmark(InstrumentationBenchmarkUtil.DEFAULT_DATA_SIZE);
+        InputUtil.pressEnterToContinue();
+    }
+
+    private void compareParallelLinearSearch() {
+        ColorUtil.printHeader("PARALLEL LINEAR SEARCH BENCHMARK");
+        ParallelSearchBenchmarkUtil.runBenchmark(ParallelSearchBenchmarkUtil.DEFAULT_MAX_SIZE);
+        InputUtil.pressEnterToContinue();
+    }
+
+    private void compareEytzingerSearch() {
+        ColorUtil.printHeader("EYTZINGER SEARCH BENCHMARK");
+        EytzingerBenchmarkUtil.runBenchmark(EytzingerBenchmarkUtil.DEFAULT_MAX_SIZE);
         InputUtil.pressEnterToContinue();
     }
 